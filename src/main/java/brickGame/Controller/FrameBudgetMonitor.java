@@ -0,0 +1,128 @@
+package brickGame.Controller;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Watches how long frames take compared to their time budget and decides when cosmetic work should be shed.
+ * Shedding starts after a few consecutive frames over budget and only stops after a longer run of frames
+ * comfortably under budget, so the game does not flicker between the two states.
+ * Each shedding episode is logged together with the number of cosmetic updates that were skipped.
+ * Frames must be recorded by a single thread; skipped work may be recorded from any thread.
+ */
+public class FrameBudgetMonitor {
+    private static final Logger logger = Logger.getLogger(FrameBudgetMonitor.class.getName());
+    private static final int ENTER_FRAMES = 3;
+    private static final int RECOVER_FRAMES = 60;
+    private static final double RECOVER_RATIO = 0.75;
+
+    private final String name;
+    private int overBudgetStreak = 0;
+    private int underBudgetStreak = 0;
+    private long overBudgetFrames = 0;
+    private volatile boolean isShedding = false;
+    private volatile int sheddingEpisodes = 0;
+    private final AtomicLong shedCount = new AtomicLong();
+    private long shedCountAtEpisodeStart = 0;
+
+    /**
+     * Constructs a new FrameBudgetMonitor.
+     *
+     * @param name The name of the frames being watched, used when logging.
+     */
+    public FrameBudgetMonitor(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Records how long a frame took and updates the shedding state.
+     *
+     * @param frameNanos The time the frame took in nanoseconds.
+     * @param budgetNanos The time the frame was allowed to take in nanoseconds.
+     */
+    public void recordFrame(long frameNanos, long budgetNanos) {
+        if (frameNanos > budgetNanos) {
+            overBudgetFrames++;
+            overBudgetStreak++;
+            underBudgetStreak = 0;
+            if (!isShedding && overBudgetStreak >= ENTER_FRAMES) {
+                startShedding(frameNanos, budgetNanos);
+            }
+        } else {
+            overBudgetStreak = 0;
+            if (frameNanos <= budgetNanos * RECOVER_RATIO) {
+                underBudgetStreak++;
+                if (isShedding && underBudgetStreak >= RECOVER_FRAMES) {
+                    stopShedding();
+                }
+            }
+        }
+    }
+
+    /**
+     * Starts shedding cosmetic work and logs the new episode.
+     *
+     * @param frameNanos The time the last frame took in nanoseconds.
+     * @param budgetNanos The frame budget in nanoseconds.
+     */
+    private void startShedding(long frameNanos, long budgetNanos) {
+        isShedding = true;
+        sheddingEpisodes++;
+        shedCountAtEpisodeStart = shedCount.get();
+        logger.log(Level.INFO, "{0} frames over budget ({1} us > {2} us), shedding cosmetic work (episode {3})",
+                new Object[]{name, Long.toString(frameNanos / 1000), Long.toString(budgetNanos / 1000), sheddingEpisodes});
+    }
+
+    /**
+     * Stops shedding cosmetic work and logs how much was skipped during the episode.
+     */
+    private void stopShedding() {
+        isShedding = false;
+        logger.log(Level.INFO, "{0} frames back within budget, {1} cosmetic updates were skipped (episode {2})",
+                new Object[]{name, Long.toString(shedCount.get() - shedCountAtEpisodeStart), sheddingEpisodes});
+    }
+
+    /**
+     * Checks if cosmetic work should currently be skipped.
+     *
+     * @return True while frames are over budget, false otherwise.
+     */
+    public boolean isShedding() {
+        return isShedding;
+    }
+
+    /**
+     * Records that a piece of cosmetic work has been skipped.
+     */
+    public void recordShed() {
+        shedCount.incrementAndGet();
+    }
+
+    /**
+     * Retrieves the number of cosmetic updates skipped so far.
+     *
+     * @return The number of skipped cosmetic updates.
+     */
+    public long getShedCount() {
+        return shedCount.get();
+    }
+
+    /**
+     * Retrieves how often shedding has kicked in.
+     *
+     * @return The number of shedding episodes.
+     */
+    public int getSheddingEpisodes() {
+        return sheddingEpisodes;
+    }
+
+    /**
+     * Retrieves the number of frames that ran over budget. Must be called by the thread recording frames.
+     *
+     * @return The number of frames over budget.
+     */
+    public long getOverBudgetFrames() {
+        return overBudgetFrames;
+    }
+}
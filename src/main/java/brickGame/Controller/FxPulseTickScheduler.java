@@ -0,0 +1,48 @@
+package brickGame.Controller;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+/**
+ * Tick scheduler that runs one engine frame on every JavaFX pulse, on the JavaFX Application Thread.
+ * Physics and rendering then share a thread, so no frame ever runs concurrently with the scene graph.
+ */
+public class FxPulseTickScheduler implements GameEngine.TickScheduler {
+    private AnimationTimer timer;
+
+    /**
+     * Starts running a frame of the given engine on every pulse.
+     *
+     * @param engine The GameEngine whose frames are run.
+     */
+    @Override
+    public void start(GameEngine engine) {
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                engine.runFrame(now);
+            }
+        };
+        timer.start();
+    }
+
+    /**
+     * Stops running frames. Frames never overlap with the caller, since they only run between pulses.
+     */
+    @Override
+    public void stop() {
+        if (timer != null) {
+            timer.stop();
+        }
+    }
+
+    /**
+     * Checks if the calling thread is the JavaFX Application Thread.
+     *
+     * @return True if called from the JavaFX Application Thread, false otherwise.
+     */
+    @Override
+    public boolean isFrameThread() {
+        return Platform.isFxApplicationThread();
+    }
+}
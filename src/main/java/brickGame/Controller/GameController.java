@@ -1,41 +1,68 @@
 package brickGame.Controller;
 
 import brickGame.Model.Block;
+import brickGame.Model.BlockStore;
+import brickGame.Model.BlockType;
+import brickGame.Model.BoardConfig;
 import brickGame.Model.Bonus;
+import brickGame.Model.GameListener;
 import brickGame.Model.GameModel;
-import brickGame.Model.LoadSave;
+import brickGame.Model.GameSnapshot;
 import brickGame.View.GameView;
 import brickGame.View.GameSound;
 import brickGame.View.Score;
+import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
 import javafx.event.EventHandler;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.stage.Stage;
 
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * This class is the controller that acts as the intermediary between Model and view, it also handles user interaction
+ * The controller observes the model as a GameListener and turns its events into view updates.
+ * The model is updated on the engine's simulation thread (the JavaFX pulse when the fx tick scheduler is chosen at startup),
+ * which publishes render snapshots through a triple buffer;
+ * the JavaFX pulse only draws the newest snapshot, and user input is handed to the simulation thread.
+ * UI changes caused by model events are collected in a per-frame UiCommandBuffer and run together once per pulse.
+ * While the simulation or the renderer runs over its frame budget, cosmetic work such as popups, sounds,
+ * messages and console output is skipped.
  */
-public class GameController implements EventHandler<KeyEvent>, GameEngine.OnAction {
+public class GameController implements EventHandler<KeyEvent>, GameEngine.OnAction, GameListener {
     private GameModel gameModel;
     private GameView gameView;
     private GameEngine engine;
     private final GameSound gameSound;
     private boolean loadFromSave = false;
     private boolean isLevelTransitionInProgress = false;
-    private final int sceneWidth = 500;
-    private final int sceneHeight = 700;
     private static final int LEFT = 1;
     private static final int RIGHT = 2;
-    private long time = 0;
-    private boolean previousGoldStatus = false;
-    private boolean previousFreezeStatus = false;
-    private boolean previousGhostStatus = false;
+    private static final String SCHEDULER_PROPERTY = "brickGame.scheduler";
+    private static final String COLLISION_KERNEL_PROPERTY = "brickGame.collisionKernel";
+    private static final String SEED_PROPERTY = "brickGame.seed";
+    private static final String BOARD_PROPERTY = "brickGame.board";
+    private static final String CELL_PROPERTY = "brickGame.cell";
+    private static final String VIEWPORT_PROPERTY = "brickGame.viewport";
+    private static final String ENDLESS_PROPERTY = "brickGame.endless";
+    private static final long PULSE_BUDGET_NANOS = 25_000_000L;
+    private static final double[] TIME_SCALES = {1, 2, 8, Double.POSITIVE_INFINITY};
+    private int timeScaleIndex = 0;
+    private final boolean isFxPulseScheduler;
     private boolean isPaused = false;
+    private final TripleBuffer<GameSnapshot> snapshots = new TripleBuffer<>(GameSnapshot::new);
+    private final UiCommandBuffer uiCommands = new UiCommandBuffer();
+    private final EnumMap<BlockType, Consumer<Block>> blockDestroyedUi = createBlockDestroyedUi();
+    private final AnimationTimer renderTimer;
+    private final FrameBudgetMonitor pulseMonitor = new FrameBudgetMonitor("Render");
+    private long lastPulseNanos = -1;
     Stage  primaryStage;
     private static final Logger logger = Logger.getLogger(GameController.class.getName());
 
@@ -50,9 +77,103 @@ public class GameController implements EventHandler<KeyEvent>, GameEngine.OnActi
         this.gameView = gameView;
         this.engine = new GameEngine();
         this.gameSound = new GameSound();
+        this.isFxPulseScheduler = "fx".equals(System.getProperty(SCHEDULER_PROPERTY));
 
+        gameModel.setListener(this);
         engine.setOnAction(this);
         engine.setFps(120);
+        engine.setClock(gameModel.getClock());
+
+        renderTimer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                if (lastPulseNanos >= 0) {
+                    pulseMonitor.recordFrame(now - lastPulseNanos, PULSE_BUDGET_NANOS);
+                }
+                lastPulseNanos = now;
+                renderSnapshot();
+            }
+        };
+    }
+
+    /**
+     * Creates a game model, seeded with the seed chosen at startup for a reproducible game, or with a random seed,
+     * on the board chosen at startup. The endless property plays the endless board instead of levels.
+     *
+     * @return The new GameModel.
+     */
+    public static GameModel createGameModel() {
+        Long seed = Long.getLong(SEED_PROPERTY);
+        GameModel gameModel = new GameModel(seed != null ? seed : new SplittableRandom().nextLong(), createBoardConfig());
+        gameModel.setEndless(Boolean.getBoolean(ENDLESS_PROPERTY));
+        return gameModel;
+    }
+
+    /**
+     * Creates the board configuration chosen at startup.
+     * The board property gives the columns and rows of a board as "200x150", where 0 rows follow the level number,
+     * and the cell property the size of a block as "40x12". Without either property the default board is played.
+     *
+     * @return The board configuration.
+     */
+    public static BoardConfig createBoardConfig() {
+        String board = System.getProperty(BOARD_PROPERTY);
+        String cell = System.getProperty(CELL_PROPERTY);
+        if (board == null && cell == null) {
+            return BoardConfig.DEFAULT;
+        }
+        BoardConfig defaults = BoardConfig.DEFAULT;
+        int[] boardSize = parseSize(board, defaults.getColumns(), defaults.getRows());
+        int[] cellSize = parseSize(cell, defaults.getBlockWidth(), defaults.getBlockHeight());
+        return BoardConfig.forBoard(boardSize[0], boardSize[1], cellSize[0], cellSize[1]);
+    }
+
+    /**
+     * Creates the game view, showing the scene of a game model in the viewport chosen at startup.
+     * The viewport property gives the window size as "1280x800"; without it the window matches the scene.
+     *
+     * @param gameModel The game model whose scene is shown.
+     * @return The new GameView.
+     */
+    public static GameView createGameView(GameModel gameModel) {
+        int[] viewport = parseSize(System.getProperty(VIEWPORT_PROPERTY), gameModel.getSceneWidth(), gameModel.getSceneHeight());
+        return new GameView(gameModel.getSceneWidth(), gameModel.getSceneHeight(), viewport[0], viewport[1]);
+    }
+
+    /**
+     * Parses a size given as two numbers separated by an "x".
+     *
+     * @param value The size to parse, or null.
+     * @param defaultFirst The first number if the size is missing or malformed.
+     * @param defaultSecond The second number if the size is missing or malformed.
+     * @return The two numbers of the size.
+     */
+    private static int[] parseSize(String value, int defaultFirst, int defaultSecond) {
+        if (value == null) {
+            return new int[] {defaultFirst, defaultSecond};
+        }
+        String[] parts = value.trim().split("x");
+        try {
+            if (parts.length != 2) {
+                throw new NumberFormatException(value);
+            }
+            return new int[] {Integer.parseInt(parts[0]), Integer.parseInt(parts[1])};
+        } catch (NumberFormatException e) {
+            logger.log(Level.WARNING, "Ignoring malformed size " + value, e);
+            return new int[] {defaultFirst, defaultSecond};
+        }
+    }
+
+    /**
+     * Selects how the model finds the blocks around the ball, from the collision kernel chosen at startup.
+     * "vector" scans the blocks with the Vector API kernel when the jdk.incubator.vector module is available,
+     * "scalar" with the scalar kernel; without the property the block grid is used.
+     */
+    private void applyCollisionKernel() {
+        String kernel = System.getProperty(COLLISION_KERNEL_PROPERTY);
+        if (kernel != null && gameModel.getBlockStore().getOverlapKernel() == null) {
+            gameModel.getBlockStore().setOverlapKernel(BlockStore.createOverlapKernel("vector".equals(kernel)));
+        }
     }
 
     /**
@@ -65,8 +186,10 @@ public class GameController implements EventHandler<KeyEvent>, GameEngine.OnActi
         this.primaryStage = primaryStage;
 
         if (gameModel == null) {
-            gameModel = new GameModel();
+            gameModel = createGameModel();
+            gameModel.setListener(this);
         }
+        applyCollisionKernel();
 
         if(gameModel.getLevel()==0 && !loadFromSave){
             gameView.initializeMainMenu();
@@ -77,6 +200,9 @@ public class GameController implements EventHandler<KeyEvent>, GameEngine.OnActi
         gameView.initializeUI(gameModel, loadFromSave);
         initializeGameElements();
         gameView.addToRoot(gameModel, loadFromSave);
+        if (gameModel.getLevel() > 0 && gameModel.getLevel() < 18 && !gameModel.isEndless()) {
+            gameView.prepareBoard(gameModel.prepareNextBoard());
+        }
 
         if (!loadFromSave) {
             if(gameModel.getLevel() >1 && gameModel.getLevel()<19){
@@ -150,10 +276,7 @@ public class GameController implements EventHandler<KeyEvent>, GameEngine.OnActi
         });
 
         gameView.getNewGameButton().setOnAction(event -> {
-            engine = new GameEngine();
-            engine.setOnAction(this);
-            engine.setFps(120);
-            engine.start();
+            startGameEngine();
             gameView.getPauseButton().setVisible(true);
             gameView.changeSceneToGame(primaryStage);
             primaryStage.getScene().setOnKeyPressed(this);
@@ -190,55 +313,89 @@ public class GameController implements EventHandler<KeyEvent>, GameEngine.OnActi
 
     /**
      * Starts the game engine.
-     * Initializes a new instance of GameEngine and sets its properties including FPS and initial time.
+     * Initializes a new instance of GameEngine and sets its properties including FPS and initial time,
+     * and starts drawing the snapshots it publishes.
      */
     private void startGameEngine() {
         engine = new GameEngine();
         engine.setOnAction(this);
         engine.setFps(120);
+        engine.setClock(gameModel.getClock());
         engine.setInitialTime(gameModel.getTime());
+        engine.setScheduler(createScheduler());
+        applyTimeScale();
         engine.start();
+        renderTimer.start();
     }
 
     /**
-     * Handles key events during the game, such as left and right arrow keys for paddle movement and 'S' for saving the game.
+     * Creates the scheduler that runs the engine's frames, chosen once at startup by the brickGame.scheduler
+     * system property: "fx" runs frames on the JavaFX pulse, anything else on a dedicated simulation thread.
+     *
+     * @return A new TickScheduler for the next engine.
+     */
+    private GameEngine.TickScheduler createScheduler() {
+        return isFxPulseScheduler ? new FxPulseTickScheduler() : new ThreadTickScheduler();
+    }
+
+    /**
+     * Applies the selected time scale to the engine. The last time scale runs the engine at unlimited speed.
+     */
+    private void applyTimeScale() {
+        double timeScale = TIME_SCALES[timeScaleIndex];
+        engine.setUnlimitedSpeed(Double.isInfinite(timeScale));
+        if (!Double.isInfinite(timeScale)) {
+            engine.setTimeScale(timeScale);
+        }
+    }
+
+    /**
+     * Switches to the next time scale for fast-forwarding through a level, cycling back to real time after the fastest.
+     */
+    private void cycleTimeScale() {
+        timeScaleIndex = (timeScaleIndex + 1) % TIME_SCALES.length;
+        applyTimeScale();
+
+        double timeScale = TIME_SCALES[timeScaleIndex];
+        gameView.showMessage(Double.isInfinite(timeScale) ? "Speed Max" : "Speed x" + (int) timeScale);
+    }
+
+    /**
+     * Handles key events during the game, such as left and right arrow keys for paddle movement, 'S' for saving the game
+     * and 'F' for changing the time scale.
      *
      * @param event The KeyEvent to be handled.
      */
     @Override
     public void handle(KeyEvent event) {
-        if(!gameModel.getIsFreezeStatus()) {
-            if (event.getCode() == KeyCode.LEFT) {
-                move(LEFT);
-            } else if (event.getCode() == KeyCode.RIGHT) {
-                move(RIGHT);
-            }
+        if (event.getCode() == KeyCode.LEFT) {
+            move(LEFT);
+        } else if (event.getCode() == KeyCode.RIGHT) {
+            move(RIGHT);
         }
         if (event.getCode() == KeyCode.S) {
             saveGame();
         }
+        if (event.getCode() == KeyCode.F) {
+            cycleTimeScale();
+        }
     }
 
     /**
      * Moves the paddle in the specified direction.
-     * Ensures that the paddle does not move beyond the screen boundaries.
+     * Each single step of the movement is handed to the simulation thread, which ignores it while the paddle is frozen
+     * and ensures that the paddle does not move beyond the screen boundaries.
      *
      * @param direction The direction in which to move the paddle (LEFT or RIGHT).
      */
     private void move(final int direction) {
+        final GameEngine movingEngine = engine;
         new Thread(() -> {
             int sleepTime = 4;
             int maxIterations = 30;
 
             for (int i = 0; i < maxIterations; i++) {
-                if ((gameModel.getPaddle().getX() <= 0 && direction == LEFT) || (gameModel.getPaddle().getX() >= (sceneWidth - gameModel.getPaddle().getWidth()) && direction == RIGHT)) {
-                    return;
-                }
-                if (direction == RIGHT) {
-                    gameModel.getPaddle().moveRight(sceneWidth);
-                } else if (direction == LEFT) {
-                    gameModel.getPaddle().moveLeft();
-                }
+                movingEngine.runOnSimulationThread(() -> movePaddle(direction));
 
                 try {
                     Thread.sleep(sleepTime);
@@ -254,12 +411,18 @@ public class GameController implements EventHandler<KeyEvent>, GameEngine.OnActi
     }
 
     /**
-     * Applies physics to the ball movement and checks for when ball hits the bottom of the screen and game over scenarios.
+     * Moves the paddle by a single step unless it is frozen. Runs on the simulation thread.
+     *
+     * @param direction The direction in which to move the paddle (LEFT or RIGHT).
      */
-    private void setPhysicsToBall() {
-        gameModel.setPhysicsToBall();
-        if (gameModel.checkHeartDecrement()) {
-            handleGameEndScenario();
+    private void movePaddle(int direction) {
+        if (gameModel.getIsFreezeStatus()) {
+            return;
+        }
+        if (direction == RIGHT) {
+            gameModel.getPaddle().moveRight(gameModel.getSceneWidth());
+        } else if (direction == LEFT) {
+            gameModel.getPaddle().moveLeft();
         }
     }
 
@@ -268,28 +431,55 @@ public class GameController implements EventHandler<KeyEvent>, GameEngine.OnActi
      * Displays game over or win screens and stops the background music.
      */
     private void handleGameEndScenario() {
-        gameView.show((double) sceneWidth / 2, (double) sceneHeight / 2, -1);
+        if (!shouldShedCosmetics()) {
+            uiCommands.add(() -> gameView.show((double) gameModel.getSceneWidth() / 2, (double) gameModel.getSceneHeight() / 2, -1));
+        }
 
         if (gameModel.getHeart() == 0) {
-            gameSound.stopBackgroundMusic();
-            gameSound.playLoseSound();
-            gameView.getPauseButton().setVisible(false);
-            gameView.showGameOver(restartAction, gameModel);
+            uiCommands.add(() -> {
+                gameSound.stopBackgroundMusic();
+                gameSound.playLoseSound();
+                gameView.getPauseButton().setVisible(false);
+                gameView.showGameOver(restartAction, gameModel);
+            });
             engine.stop();
+            gameModel.stopEndlessBoard();
+            uiCommands.commitFrame();
         }
     }
 
     /**
-     * Saves the current game state.
+     * Checks if a piece of cosmetic work should be skipped because the simulation or the renderer
+     * is over its frame budget, and counts it as shed if so.
+     *
+     * @return True if the cosmetic work should be skipped, false otherwise.
+     */
+    private boolean shouldShedCosmetics() {
+        FrameBudgetMonitor engineMonitor = engine.getFrameBudgetMonitor();
+        if (engineMonitor.isShedding()) {
+            engineMonitor.recordShed();
+            return true;
+        }
+        if (pulseMonitor.isShedding()) {
+            pulseMonitor.recordShed();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Saves the current game state on the simulation thread.
      * Ensures that the game is in a savable state before saving.
      */
     private void saveGame() {
-        if (gameModel.getLevel() < 19 && gameModel.getHeart() > 0) {
-            gameModel.saveGame();
-            gameView.showMessage("Game Saved");
-        } else {
-            gameView.showGameOverAlert();
-        }
+        engine.runOnSimulationThread(() -> {
+            if (gameModel.getLevel() < 19 && gameModel.getHeart() > 0) {
+                gameModel.saveGame();
+                Platform.runLater(() -> gameView.showMessage("Game Saved"));
+            } else {
+                Platform.runLater(() -> gameView.showGameOverAlert());
+            }
+        });
     }
 
     /**
@@ -301,8 +491,7 @@ public class GameController implements EventHandler<KeyEvent>, GameEngine.OnActi
             gameModel.loadSavedGame();
             loadFromSave = true;
             gameView = null;
-            gameView = new GameView();
-            onTime(gameModel.getTime());
+            gameView = createGameView(gameModel);
             start(primaryStage);
         } catch (Exception e) {
             handleException(e);
@@ -311,38 +500,63 @@ public class GameController implements EventHandler<KeyEvent>, GameEngine.OnActi
 
     /**
      * Updates the game state, particularly checking for level completion and initiating level transition if necessary.
+     * Completing the final level stops the engine and restarts the view, which then shows the win screen.
+     * The transition flag is only read and written on the simulation thread: the JavaFX task that finishes the transition
+     * clears it through the engine it leaves running, or directly once no engine runs.
      */
     private void updateGameState() {
-        if (gameModel.checkLevelCompletion() && !isLevelTransitionInProgress) {
+        if (!gameModel.checkLevelCompletion() || isLevelTransitionInProgress) {
+            return;
+        }
+        if (gameModel.getLevel() == 18) {
             isLevelTransitionInProgress = true;
             Platform.runLater(() -> {
                 try {
-                    if(gameModel.getLevel() == 18){
-                        engine.stop();
-                        start(primaryStage);
-                    } else{
-                        gameModel.initializeNextLevel();
-                        engine.stop();
-                        gameModel.resetGameElements();
-                        gameView = null;
-                        gameView = new GameView();
-                        start(primaryStage);
-                    }
+                    engine.stop();
+                    start(primaryStage);
                 } catch (Exception e) {
                     handleException(e);
                 } finally {
-                    isLevelTransitionInProgress = false;
+                    engine.runOnSimulationThread(() -> isLevelTransitionInProgress = false);
                 }
             });
+        } else {
+            startNextLevel();
         }
     }
 
+    /**
+     * Moves on to the next level without stopping the engine or rebuilding the scene.
+     * The model swaps in the board it prepared during the previous level, and a single UI command swaps in
+     * the block views prepared for it. The board after that is then prepared in a separate task, off the transition's pulse.
+     */
+    private void startNextLevel() {
+        gameModel.initializeNextLevel();
+        gameModel.resetGameElements();
+        gameModel.addToLevel(1);
+        gameModel.initBoard();
+
+        final List<Block> board = gameModel.getBlocks();
+        final List<Block> nextBoard = gameModel.getLevel() < 18 ? new ArrayList<>(gameModel.prepareNextBoard()) : null;
+        final boolean isMessageShown = !shouldShedCosmetics();
+        uiCommands.put(gameView, "board", () -> {
+            gameView.showBoard(board);
+            if (isMessageShown) {
+                gameView.showMessage("Level Up :)");
+            }
+            if (nextBoard != null) {
+                Platform.runLater(() -> gameView.prepareBoard(nextBoard));
+            }
+        });
+    }
+
     Score.GameRestartAction restartAction = () -> {
         Platform.runLater(() -> {
             try {
+                engine.stop();
                 gameModel.resetGameForRestart();
                 gameView = null;
-                gameView = new GameView();
+                gameView = createGameView(gameModel);
                 start(primaryStage);
             } catch (Exception e) {
                 handleException(e);
@@ -351,83 +565,174 @@ public class GameController implements EventHandler<KeyEvent>, GameEngine.OnActi
     };
 
     /**
-     * Updates the game each frame.
-     * Manages ball and block collisions, block destruction, and updates the UI accordingly.
+     * Updates the game once per fixed step.
+     * Manages ball and block collisions and block destruction; the UI follows through the model's events.
      */
     @Override
     public void onUpdate() {
-        updateLabelsAndPosition();
+        gameModel.update();
+    }
 
-        gameModel.setXBallPrevious(gameModel.getGameball().getX());
-        gameModel.setYBallPrevious(gameModel.getGameball().getY());
-        gameModel.setTime(time);
+    /**
+     * Publishes a render snapshot and commits the frame's UI commands once all physics steps of the frame have run.
+     * Runs on the simulation thread and never waits for the JavaFX Application Thread.
+     */
+    @Override
+    public void onRender() {
+        gameModel.writeSnapshot(snapshots.getWriteBuffer(), engine.getStateNanos(), engine.getScaledStepNanos());
+        snapshots.publish();
+        uiCommands.commitFrame();
+    }
 
-        if (gameModel.getGameball().getY() >= Block.getPaddingTop() && gameModel.getGameball().getY() <= (Block.getHeight() * (gameModel.getLevel() + 1)) + Block.getPaddingTop()) {
-            gameModel.updateBlockCollisions();
-            updateBlockCollisionsUI();
+    /**
+     * Runs the committed UI commands and draws the newest published snapshot. Runs on every JavaFX pulse.
+     * This includes updating labels and the positions of the ball, paddle and bonuses,
+     * interpolated by how far the pulse lies into the step after the snapshot, so motion stays smooth
+     * at any display refresh rate.
+     */
+    private void renderSnapshot() {
+        uiCommands.flush();
+        GameSnapshot snapshot = snapshots.read();
+        if (snapshot.isCaptured()) {
+            gameView.render(snapshot, snapshot.getAlpha(System.nanoTime()));
         }
+    }
+
+    /**
+     * Retrieves the number of UI commands the last simulation frame queued, including collapsed ones.
+     *
+     * @return The number of UI commands per frame.
+     */
+    public int getUiCommandsPerFrame() {
+        return uiCommands.getLastFrameCommandCount();
+    }
 
-        gameModel.removeDestroyedBlocks();
-        updateUIAfterBlockRemoval();
+    /**
+     * Retrieves the number of UI commands of the last simulation frame that collapsed into a later command.
+     *
+     * @return The number of collapsed UI commands per frame.
+     */
+    public int getCollapsedUiCommandsPerFrame() {
+        return uiCommands.getLastFrameCollapsedCount();
     }
 
     /**
-     * Updates labels and positions of game elements on the UI.
-     * This includes updating positions of bonuses and the ball.
+     * Retrieves the number of UI commands run on the last JavaFX pulse.
+     *
+     * @return The number of UI commands per pulse.
      */
-    private void updateLabelsAndPosition() {
-        Platform.runLater(() -> {
-            gameView.updateLabelsAndBall(gameModel);
+    public int getUiCommandsPerPulse() {
+        return uiCommands.getLastFlushCommandCount();
+    }
 
-            for (Bonus choco : gameModel.getChocos()) {
-                choco.getBonus().setY(choco.getY());
-            }
-            for (Bonus mystery : gameModel.getMysteries()) {
-                mystery.getBonus().setY(mystery.getY());
+    /**
+     * Updates the UI to reflect a block hit, which shows the remaining hits of a count breaker block.
+     * Hits on other block types change nothing on screen.
+     *
+     * @param blockType The type of the block that has been hit.
+     * @param index The index of the block in the game's BlockStore.
+     */
+    @Override
+    public void onBlockHit(BlockType blockType, int index) {
+        if (!blockType.isCountingHits()) {
+            return;
+        }
+        final Block block = gameModel.getBlockStore().getBlock(index);
+        final int hitsToDestroy = gameModel.getBlockStore().getHitsLeft(index);
+        uiCommands.put(block, "hits", () -> gameView.updateBlockUI(block, hitsToDestroy));
+    }
+
+    /**
+     * Updates the UI to reflect a destroyed block.
+     * This includes making the block not visible and the reaction of its block type, such as gold, freeze or heart UI.
+     * The position of the score is read here, on the simulation thread, since blocks of the endless board keep moving.
+     *
+     * @param block The block that has been destroyed.
+     */
+    @Override
+    public void onBlockDestroyed(Block block) {
+        uiCommands.put(block, "visibility", () -> gameView.setNotVisibleAfterBlockRemoval(block));
+        if (!shouldShedCosmetics()) {
+            final int x = block.x;
+            final int y = block.y;
+            uiCommands.add(() -> gameView.show(x, y, 1));
+        }
+
+        Consumer<Block> typeUi = blockDestroyedUi.get(BlockType.of(block.type));
+        if (typeUi != null) {
+            typeUi.accept(block);
+        }
+    }
+
+    /**
+     * Builds the table of UI reactions to destroyed blocks, by block type.
+     * Types without an entry only hide the block and show its score.
+     *
+     * @return The UI reaction of every block type that has one.
+     */
+    private EnumMap<BlockType, Consumer<Block>> createBlockDestroyedUi() {
+        EnumMap<BlockType, Consumer<Block>> reactions = new EnumMap<>(BlockType.class);
+        reactions.put(BlockType.STAR, block -> uiCommands.put(gameView, "gold", () -> gameView.addGoldRoot()));
+        reactions.put(BlockType.HEART, block -> {
+            if (!shouldShedCosmetics()) {
+                uiCommands.add(() -> gameView.showMessage("Heart +1"));
             }
         });
+        reactions.put(BlockType.FREEZE, block -> uiCommands.put(gameView, "freeze", () -> gameView.addFreezeRoot()));
+        reactions.put(BlockType.GHOST, block -> uiCommands.put(gameView, "ghost", () -> gameView.addGhostUI()));
+        return reactions;
     }
 
     /**
-     * Updates the UI after blocks are removed from the game.
-     * This includes making destroyed blocks not visible.
+     * Queues adding the view of a block that appeared on the endless board.
+     * The position and row are read here, on the simulation thread, since a later scroll moves the block
+     * before the view may have been added.
+     *
+     * @param block The block that has been added.
      */
-    private void updateUIAfterBlockRemoval() {
-        for (Block block : gameModel.getBlocksToRemove()) {
-            Platform.runLater(() -> gameView.setNotVisibleAfterBlockRemoval(block));
-        }
+    @Override
+    public void onBlockAdded(Block block) {
+        final int x = block.x;
+        final int y = block.y;
+        final int row = block.row;
+        uiCommands.put(block, "add", () -> gameView.addBlockView(block, x, y, row));
     }
 
     /**
-     * Updates the UI to reflect block collisions.
-     * This includes handling different block types like heart, freeze, gold, etc.
+     * Queues removing the view of a block the endless board released.
+     *
+     * @param block The block that has been released.
      */
-    private void updateBlockCollisionsUI() {
-        for (Block block : gameModel.getBlocks()) {
-            if (block.isDestroyed) {
-                gameView.show(block.x, block.y, 1);
+    @Override
+    public void onBlockReleased(Block block) {
+        uiCommands.put(block, "release", () -> gameView.removeBlockView(block));
+    }
 
-                if (block.type == Block.BLOCK_CHOCO) {
-                    Platform.runLater(() -> gameView.addBonusUI(gameModel.createChoco(block)));
-                } else if (block.type == Block.BLOCK_STAR) {
-                    Platform.runLater(() -> {
-                        gameView.addGoldRoot();
-                    });
-                } else if (block.type == Block.BLOCK_HEART) {
-                    gameView.showMessage("Heart +1");
-                } else if (block.type == Block.BLOCK_FREEZE) {
-                    Platform.runLater(() -> {
-                        gameView.addFreezeRoot();
-                    });
-                } else if (block.type == Block.BLOCK_MYSTERY) {
-                    Platform.runLater(() -> gameView.addBonusUI(gameModel.createMystery(block)));
-                } else if (block.type == Block.Block_GHOST) {
-                    Platform.runLater(() -> {
-                        gameView.addGhostUI();
-                    });
-                }
-            }
+    /**
+     * Queues moving the block views after the endless board has scrolled, once per frame however many rows scrolled.
+     * The positions are copied here, on the simulation thread, so the JavaFX Application Thread never reads
+     * the coordinates of blocks that the simulation keeps moving.
+     */
+    @Override
+    public void onBoardScrolled() {
+        final List<Block> blocks = gameModel.getBlocks();
+        final int[] xs = new int[blocks.size()];
+        final int[] ys = new int[blocks.size()];
+        for (int i = 0; i < blocks.size(); i++) {
+            xs[i] = blocks.get(i).x;
+            ys[i] = blocks.get(i).y;
         }
+        uiCommands.put(gameView, "scroll", () -> gameView.updateBlockPositions(blocks, xs, ys));
+    }
+
+    /**
+     * Adds the UI element of a bonus that starts falling from a destroyed block.
+     *
+     * @param bonus The bonus that has been spawned.
+     */
+    @Override
+    public void onBonusSpawned(Bonus bonus) {
+        uiCommands.put(bonus, "add", () -> gameView.addBonusUI(bonus));
     }
 
     @Override
@@ -437,86 +742,118 @@ public class GameController implements EventHandler<KeyEvent>, GameEngine.OnActi
 
     /**
      * Updates the game physics.
-     * Manages special block statuses and paddle collision, and updates the UI accordingly.
+     * Checks for level completion and runs the model's physics step.
+     * Paddle width changes reach the view through the next render snapshot.
      */
     public void onPhysicsUpdate() {
         updateGameState();
-        setPhysicsToBall();
+        gameModel.updatePhysics();
 
-        gameModel.updateSpecialBlockStatus(time);
-
-        boolean currentGoldStatus = gameModel.getIsGoldStatus();
-        if (!currentGoldStatus && previousGoldStatus) {
-            gameView.resetGoldStatusUI();
+        if (gameModel.isPaddleWidthChanged()) {
+            gameModel.setPaddleWidthChanged(false);
         }
-        previousGoldStatus = currentGoldStatus;
+    }
 
-        boolean currentFreezeStatus = gameModel.getIsFreezeStatus();
-        if (!currentFreezeStatus && previousFreezeStatus) {
-            gameView.resetFreezeUI();
-        }
-        previousFreezeStatus = currentFreezeStatus;
+    /**
+     * Checks for game over when the ball hits the bottom of the screen.
+     */
+    @Override
+    public void onHeartLost() {
+        handleGameEndScenario();
+    }
 
-        boolean currentGhostStatus = gameModel.getIsGhostStatus();
-        if (!currentGhostStatus && previousGhostStatus) {
-            gameView.resetGhostUI();
+    /**
+     * Plays the hit sound when the ball touches the paddle.
+     */
+    @Override
+    public void onPaddleHit() {
+        if (!shouldShedCosmetics()) {
+            uiCommands.put(gameSound, "hit", gameSound::playHitSound);
         }
-        previousGhostStatus = currentGhostStatus;
+    }
 
-        if (gameModel.isPaddleWidthChanged()) {
-            gameView.updatePaddleUI(gameModel);
-            gameModel.setPaddleWidthChanged(false);
+    /**
+     * Reports a paddle width change from a mystery bonus on the console.
+     *
+     * @param isExpanded True if the paddle has been expanded, false if it has been shrunken.
+     */
+    @Override
+    public void onPaddleResized(boolean isExpanded) {
+        if (shouldShedCosmetics()) {
+            return;
         }
-
-        if (gameModel.checkPaddleCollisions()) {
-            gameSound.playHitSound();
+        if (isExpanded) {
+            System.out.println("Congrats! The paddle width has been expanded for 10 seconds");
+        } else {
+            System.out.println("Oh No! The paddle width has been shrunken for 10 seconds");
         }
+    }
 
-        gameModel.updateBonusBlocks();
-        updateChocoUI();
-        updateMysteryUI();
+    /**
+     * Shows a message when the multi-ball bonus has added balls.
+     *
+     * @param ballCount The number of balls now in play.
+     */
+    @Override
+    public void onBallsAdded(int ballCount) {
+        if (!shouldShedCosmetics()) {
+            uiCommands.add(() -> gameView.showMessage("Multi Ball x" + ballCount));
+        }
     }
 
     /**
-     * Updates the UI for chocolate bonus blocks.
+     * Updates the UI when a bonus is taken.
      * Handles the visibility and score update when a chocolate bonus is taken.
+     *
+     * @param bonus The bonus that has been taken.
      */
-    private void updateChocoUI() {
-        Iterator<Bonus> iterator = gameModel.getChocos().iterator();
-        while (iterator.hasNext()) {
-            Bonus choco = iterator.next();
-            if (choco.isTaken()) {
-                choco.getBonus().setVisible(false);
-                gameView.show(choco.getX(), choco.getY(), 3);
+    @Override
+    public void onBonusTaken(Bonus bonus) {
+        final double x = bonus.getX();
+        final double y = bonus.getY();
+        final boolean isPopupShown = bonus.getType() == Block.BLOCK_CHOCO && !shouldShedCosmetics();
+        uiCommands.put(bonus, "remove", () -> {
+            gameView.removeBonusUI(bonus);
+            if (isPopupShown) {
+                gameView.show(x, y, 3);
                 System.out.println("You Got it and +3 score for you");
-                iterator.remove();
             }
-        }
+        });
     }
 
     /**
-     * Updates the UI for mystery bonus blocks.
-     * Manages the visibility of mystery bonuses when they are taken.
+     * Resets the UI once the gold status runs out.
      */
-    private void updateMysteryUI() {
-        Iterator<Bonus> iterator = gameModel.getMysteries().iterator();
-        while (iterator.hasNext()) {
-            Bonus mystery = iterator.next();
-            if (mystery.isTaken()) {
-                mystery.getBonus().setVisible(false);
-                iterator.remove();
-            }
-        }
+    @Override
+    public void onGoldStatusEnded() {
+        uiCommands.put(gameView, "gold", () -> gameView.resetGoldStatusUI());
+    }
+
+    /**
+     * Resets the UI once the freeze status runs out.
+     */
+    @Override
+    public void onFreezeStatusEnded() {
+        uiCommands.put(gameView, "freeze", () -> gameView.resetFreezeUI());
+    }
+
+    /**
+     * Resets the UI once the ghost status runs out.
+     */
+    @Override
+    public void onGhostStatusEnded() {
+        uiCommands.put(gameView, "ghost", () -> gameView.resetGhostUI());
     }
 
     /**
      * Callback method for time updates in the game.
+     * The model reads game time from the shared GameClock itself, so nothing needs to be tracked here.
      *
      * @param time The current game time.
      */
     @Override
     public void onTime(long time) {
-        this.time = time;
+
     }
 
     /**
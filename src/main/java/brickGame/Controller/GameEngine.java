@@ -1,22 +1,47 @@
 package brickGame.Controller;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.util.Duration;
+import brickGame.Model.GameClock;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * GameEngine is responsible for managing the game loop and timing in the brick game.
- * It handles the updating of the game state, physics computations, and tracking game time.
+ * A single frame driver advances the game in fixed physics steps using an accumulator,
+ * so every frame runs its callbacks in a defined update, physics, render order.
+ * Game time is kept by a GameClock that the engine advances by one fixed step per tick.
+ * How many steps a frame runs follows a second GameClock backed by System.nanoTime(),
+ * which the engine resumes while the game runs, pauses with the game and scales by the time scale.
+ * A time scale runs more or fewer steps per frame, up to an unlimited speed, without changing the step length,
+ * so gameplay and timed effects stay the same in game time at any speed.
+ * The engine itself does not depend on JavaFX: a pluggable TickScheduler decides when and on which thread frames run,
+ * whether on a dedicated thread, on the JavaFX pulse or manually with step.
+ * Other threads hand work to the simulation through runOnSimulationThread instead of touching game state directly.
+ * A FrameBudgetMonitor compares every frame that follows the time scale against the step length,
+ * so cosmetic work can be shed under load.
  */
 public class GameEngine {
 
+    private static final int DEFAULT_MAX_CATCH_UP_STEPS = 5;
+    private static final double MIN_TIME_SCALE = 0.1;
+
     private OnAction onAction;
-    private Timeline updateTimeline;
-    private Timeline physicsTimeline;
-    private Timeline timeTimeline;
-    private boolean isStopped = true;
-    private long time = 0;
-    private Duration frameTimeDuration;
+    private GameClock clock = new GameClock();
+    private final GameClock pacingClock = new GameClock();
+    private TickScheduler scheduler = new ThreadTickScheduler();
+    private final Queue<Runnable> pendingTasks = new ConcurrentLinkedQueue<>();
+    private final Object stopLock = new Object();
+    private volatile boolean isStopped = true;
+    private boolean isInFrame = false;
+    private long stepNanos = 1_000_000_000L / 60;
+    private long accumulatorNanos = 0;
+    private long lastFrameNanos = -1;
+    private long lastPacedNanos = 0;
+    private long tickCount = 0;
+    private int maxCatchUpSteps = DEFAULT_MAX_CATCH_UP_STEPS;
+    private volatile double timeScale = 1.0;
+    private volatile boolean isUnlimitedSpeed = false;
+    private final FrameBudgetMonitor budgetMonitor = new FrameBudgetMonitor("Simulation");
 
     /**
      * Sets the action callbacks for various game events.
@@ -28,12 +53,106 @@ public class GameEngine {
     }
 
     /**
-     * Sets the frames per second for the game's update and physics timelines.
+     * Sets the scheduler that runs the engine's frames. Must be called while the engine is not running.
+     *
+     * @param scheduler The TickScheduler to run frames with.
+     */
+    public void setScheduler(TickScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Retrieves the scheduler that runs the engine's frames.
+     *
+     * @return The current TickScheduler.
+     */
+    public TickScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Sets the number of fixed physics steps the engine runs per second.
      *
-     * @param fps The desired frames per second.
+     * @param fps The desired physics steps per second.
      */
     public void setFps(int fps) {
-        this.frameTimeDuration = Duration.millis((double) 1000 / fps);
+        this.stepNanos = 1_000_000_000L / fps;
+    }
+
+    /**
+     * Sets the maximum number of physics steps a single frame may run to catch up after a stall.
+     * Any backlog beyond this cap is dropped instead of being replayed in later frames.
+     *
+     * @param maxCatchUpSteps The maximum number of steps per frame, at least one.
+     */
+    public void setMaxCatchUpSteps(int maxCatchUpSteps) {
+        this.maxCatchUpSteps = Math.max(1, maxCatchUpSteps);
+    }
+
+    /**
+     * Sets how many fixed steps run per step of wall time, for example 2 or 8 to fast-forward.
+     * The step length stays the same, so the game plays out identically, only faster or slower.
+     * The catch-up cap grows with the time scale. The pacing clock takes on the new scale at the start of the next frame.
+     *
+     * @param timeScale The number of steps per step of wall time, where 1.0 is real time.
+     */
+    public void setTimeScale(double timeScale) {
+        this.timeScale = Math.max(MIN_TIME_SCALE, timeScale);
+    }
+
+    /**
+     * Retrieves how many fixed steps run per step of wall time.
+     *
+     * @return The current time scale.
+     */
+    public double getTimeScale() {
+        return timeScale;
+    }
+
+    /**
+     * Sets whether frames run as many steps as fit into one step of wall time, ignoring the time scale.
+     * The game still renders once per frame and handles input between frames.
+     *
+     * @param isUnlimitedSpeed True to run as fast as possible, false to follow the time scale.
+     */
+    public void setUnlimitedSpeed(boolean isUnlimitedSpeed) {
+        this.isUnlimitedSpeed = isUnlimitedSpeed;
+    }
+
+    /**
+     * Checks if the engine runs as fast as possible.
+     *
+     * @return True if unlimited speed is enabled, false otherwise.
+     */
+    public boolean isUnlimitedSpeed() {
+        return isUnlimitedSpeed;
+    }
+
+    /**
+     * Retrieves the monitor that compares the duration of every frame against the step length.
+     *
+     * @return The FrameBudgetMonitor of this engine.
+     */
+    public FrameBudgetMonitor getFrameBudgetMonitor() {
+        return budgetMonitor;
+    }
+
+    /**
+     * Sets the clock that measures game time for this engine.
+     *
+     * @param clock The GameClock shared with the game model.
+     */
+    public void setClock(GameClock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Retrieves the clock that measures game time for this engine.
+     *
+     * @return The GameClock driven by this engine.
+     */
+    public GameClock getClock() {
+        return clock;
     }
 
     /**
@@ -49,105 +168,286 @@ public class GameEngine {
      * @param initialTime The initial game time in milliseconds.
      */
     public void setInitialTime(long initialTime) {
-        this.time = initialTime;
+        clock.setMillis(initialTime);
     }
 
 
     /**
-     * Starts the game engine. Initializes the timelines for game updates, physics, and time tracking.
-     * The game begins its loop with these timelines after this method is called.
+     * Starts the game engine. Starts the scheduler that runs the fixed-step game loop.
      */
     public void start() {
-        isStopped = false;
+        synchronized (stopLock) {
+            isStopped = false;
+        }
+        pacingClock.resume();
         initialize();
-        startUpdateTimeline();
-        startPhysicsTimeline();
-        startTimeTimeline();
+        accumulatorNanos = 0;
+        lastFrameNanos = -1;
+        scheduler.start(this);
     }
 
     /**
-     * Stops the game engine. Halts all timelines and marks the engine as stopped.
-     * Typically called when the game is paused or ended.
+     * Stops the game engine and marks it as stopped. Typically called when the game is ended.
+     * When called from another thread, waits for the scheduler to finish its current frame
+     * and runs the tasks still pending, so the caller may safely change the game state afterwards.
+     * When called during a frame, the pending tasks run at the end of that frame instead.
+     * Either way, every task handed over before the stop runs, and tasks handed over after it run immediately.
      */
     public void stop() {
-        if (!isStopped) {
+        synchronized (stopLock) {
             isStopped = true;
-            if (updateTimeline != null) {
-                updateTimeline.stop();
-            }
-            if (physicsTimeline != null) {
-                physicsTimeline.stop();
-            }
-            if (timeTimeline != null) {
-                timeTimeline.stop();
-            }
+        }
+        scheduler.stop();
+        pacingClock.pause();
+        if (!scheduler.isFrameThread() || !isInFrame) {
+            runPendingTasks();
         }
     }
 
     /**
-     * Pauses the game. Temporarily halts all timelines without resetting the game state.
-     * Can be resumed from the same state by calling the resume method.
+     * Pauses the game. Pauses the clock that paces the steps, which halts the game steps and with them the game clock,
+     * without resetting the game state. Can be resumed from the same state by calling the resume method.
      */
     public void pause() {
-        if (!isStopped) {
-            if (updateTimeline != null) {
-                updateTimeline.pause();
+        runOnSimulationThread(() -> {
+            if (!isStopped) {
+                pacingClock.pause();
             }
-            if (physicsTimeline != null) {
-                physicsTimeline.pause();
+        });
+    }
+
+    /**
+     * Resumes the game from a paused state. The time spent paused is neither replayed as physics steps
+     * nor counted as game time.
+     */
+    public void resume() {
+        runOnSimulationThread(() -> {
+            if (!isStopped && pacingClock.isPaused()) {
+                pacingClock.resume();
+                lastFrameNanos = -1;
             }
-            if (timeTimeline != null) {
-                timeTimeline.pause();
+        });
+    }
+
+    /**
+     * Runs a task on the thread that updates the game, before its next frame.
+     * Runs the task immediately when the engine is not running.
+     * The check and the hand-over hold the lock that stop takes, so a task is either queued before the engine stops,
+     * and then run by stop, or run here.
+     *
+     * @param task The task that reads or changes the game state.
+     */
+    public void runOnSimulationThread(Runnable task) {
+        synchronized (stopLock) {
+            if (!isStopped) {
+                pendingTasks.add(task);
+                return;
             }
         }
+        task.run();
     }
 
     /**
-     * Resumes the game from a paused state. Restarts the timelines that were paused.
+     * Runs the tasks handed over by other threads since the last frame.
      */
-    public void resume() {
+    private void runPendingTasks() {
+        Runnable task;
+        while ((task = pendingTasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    /**
+     * Checks if the engine has been started and not stopped since.
+     *
+     * @return True if the engine is running, false otherwise.
+     */
+    public boolean isRunning() {
+        return !isStopped;
+    }
+
+    /**
+     * Retrieves the length of a fixed step.
+     *
+     * @return The step length in nanoseconds.
+     */
+    long getStepNanos() {
+        return stepNanos;
+    }
+
+    /**
+     * Retrieves the wall time a single step takes at the current time scale.
+     *
+     * @return The scaled step length in nanoseconds.
+     */
+    long getScaledStepNanos() {
+        return Math.max(1, (long) (stepNanos / timeScale));
+    }
+
+    /**
+     * Retrieves the wall time at which the state of the last step is due.
+     * This is the timestamp of the last frame minus the wall time left in the accumulator,
+     * so a renderer can interpolate by how far it has advanced into the next step.
+     *
+     * @return The System.nanoTime() timestamp of the current state.
+     */
+    long getStateNanos() {
+        return lastFrameNanos - (long) (accumulatorNanos / timeScale);
+    }
+
+    /**
+     * Runs a single frame of the game loop.
+     * Runs the pending tasks, adds the time the pacing clock has advanced, which is the elapsed wall time times the time scale, to the accumulator,
+     * consumes it in fixed steps up to the scaled catch-up cap, and then renders once.
+     * At unlimited speed the frame instead runs steps until one step of wall time has passed.
+     * The duration of a scaled frame is recorded against the step length, which is the frame period of the simulation thread.
+     * Unlimited frames fill their whole budget by design, so they are not recorded and do not trigger shedding.
+     *
+     * @param now The timestamp of the current frame in nanoseconds.
+     */
+    void runFrame(long now) {
+        long frameStart = System.nanoTime();
+        isInFrame = true;
+        runPendingTasks();
+        if (pacingClock.isPaused()) {
+            lastFrameNanos = -1;
+        } else if (isUnlimitedSpeed) {
+            runUnlimitedFrame(now);
+        } else {
+            runScaledFrame(now);
+            budgetMonitor.recordFrame(System.nanoTime() - frameStart, stepNanos);
+        }
+        endFrame();
+    }
+
+    /**
+     * Ends a frame. Runs the tasks still pending if the engine was stopped during the frame,
+     * since no later frame will run them.
+     */
+    private void endFrame() {
+        isInFrame = false;
+        if (isStopped) {
+            runPendingTasks();
+        }
+    }
+
+    /**
+     * Runs a frame at the current time scale, consuming the accumulator in fixed steps, and then renders once.
+     *
+     * @param now The timestamp of the current frame in nanoseconds.
+     */
+    private void runScaledFrame(long now) {
+        if (lastFrameNanos < 0) {
+            lastFrameNanos = now;
+            lastPacedNanos = pacingClock.nanos();
+        }
+        double scale = timeScale;
+        if (scale != pacingClock.getScale()) {
+            pacingClock.setScale(scale);
+        }
+        long pacedNanos = pacingClock.nanos();
+        accumulatorNanos += pacedNanos - lastPacedNanos;
+        lastPacedNanos = pacedNanos;
+        lastFrameNanos = now;
+
+        int maxSteps = (int) Math.ceil(maxCatchUpSteps * scale);
+        int steps = 0;
+        while (accumulatorNanos >= stepNanos && steps < maxSteps && !isStopped) {
+            runStep();
+            accumulatorNanos -= stepNanos;
+            steps++;
+        }
+
+        if (accumulatorNanos >= stepNanos) {
+            accumulatorNanos %= stepNanos;
+        }
+
         if (!isStopped) {
-            if (updateTimeline != null) {
-                updateTimeline.play();
-            }
-            if (physicsTimeline != null) {
-                physicsTimeline.play();
-            }
-            if (timeTimeline != null) {
-                timeTimeline.play();
-            }
+            onAction.onRender();
         }
     }
 
     /**
-     * Starts the update timeline. This timeline is responsible for triggering onUpdate events at a set interval.
+     * Runs a frame at unlimited speed, stepping until one step of wall time has passed, and then renders once.
+     *
+     * @param now The timestamp of the current frame in nanoseconds.
      */
-    private void startUpdateTimeline() {
-        updateTimeline = new Timeline(new KeyFrame(frameTimeDuration, e -> onAction.onUpdate()));
-        updateTimeline.setCycleCount(Timeline.INDEFINITE);
-        updateTimeline.play();
+    private void runUnlimitedFrame(long now) {
+        long deadline = now + stepNanos;
+        do {
+            runStep();
+        } while (!isStopped && System.nanoTime() - deadline < 0);
+
+        accumulatorNanos = 0;
+        lastFrameNanos = System.nanoTime();
+        lastPacedNanos = pacingClock.nanos();
+        if (!isStopped) {
+            onAction.onRender();
+        }
     }
 
     /**
-     * Starts the physics timeline. This timeline handles the physics updates at a set interval.
+     * Advances the game manually by a number of fixed steps and then renders once.
+     * Used through a ManualTickScheduler by headless simulations, which run without the JavaFX toolkit.
+     *
+     * @param steps The number of fixed steps to run.
      */
-    private void startPhysicsTimeline() {
-        physicsTimeline = new Timeline(new KeyFrame(frameTimeDuration, e -> onAction.onPhysicsUpdate()));
-        physicsTimeline.setCycleCount(Timeline.INDEFINITE);
-        physicsTimeline.play();
+    public void step(int steps) {
+        isInFrame = true;
+        runPendingTasks();
+        for (int i = 0; i < steps; i++) {
+            runStep();
+        }
+        onAction.onRender();
+        endFrame();
     }
 
     /**
-     * Starts the time tracking timeline. This timeline updates the game time and triggers onTime events.
+     * Runs a single fixed step of the game loop.
      */
-    private void startTimeTimeline() {
-        timeTimeline = new Timeline(new KeyFrame(Duration.millis(1), e -> onAction.onTime(time++)));
-        timeTimeline.setCycleCount(Timeline.INDEFINITE);
-        timeTimeline.play();
+    private void runStep() {
+        tickCount++;
+        clock.advance(stepNanos);
+        onAction.onTime(clock.millis());
+        onAction.onUpdate();
+        onAction.onPhysicsUpdate();
     }
 
     /**
-     * The OnAction interface implemented by various game events like updates, initialization, physics updates, and time tracking.
+     * Retrieves the number of fixed steps the engine has run.
+     *
+     * @return The number of steps run so far.
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Retrieves the simulated time covered by the steps run so far.
+     *
+     * @return The simulated time in nanoseconds.
+     */
+    public long getSimulatedNanos() {
+        return tickCount * stepNanos;
+    }
+
+    /**
+     * The TickScheduler interface implemented by the strategies that decide when and on which thread frames run.
+     * A scheduler calls runFrame with the current System.nanoTime() until it is stopped,
+     * or leaves stepping to its caller.
+     */
+    public interface TickScheduler {
+        void start(GameEngine engine);
+
+        void stop();
+
+        boolean isFrameThread();
+    }
+
+    /**
+     * The OnAction interface implemented by various game events like updates, initialization, physics updates, time tracking and rendering.
+     * Within a frame the engine calls onTime, onUpdate and onPhysicsUpdate once per fixed step, followed by a single onRender.
+     * All callbacks except onInit run on the scheduler's frame thread.
      */
     public interface OnAction {
         void onUpdate();
@@ -157,5 +457,7 @@ public class GameEngine {
         void onPhysicsUpdate();
 
         void onTime(long time);
+
+        void onRender();
     }
 }
@@ -0,0 +1,458 @@
+package brickGame.Controller;
+
+import brickGame.Model.Ball;
+import brickGame.Model.BlockStore;
+import brickGame.Model.GameModel;
+import brickGame.Model.Paddle;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+/**
+ * Runs the brick game without the JavaFX toolkit or any scene graph.
+ * The game model and its physics are advanced by a GameEngine whose clock follows the step count,
+ * so a simulation gives the same game time however fast it runs on headless build agents or in batch jobs.
+ * The engine is either stepped manually through a ManualTickScheduler,
+ * or runs on a ThreadTickScheduler at a time scale or at unlimited speed.
+ */
+public class HeadlessSimulation implements GameEngine.OnAction {
+    private static final int FPS = 120;
+    private static final int LAST_LEVEL = 18;
+    private final GameModel gameModel;
+    private final GameEngine engine;
+    private final ManualTickScheduler manualScheduler = new ManualTickScheduler();
+    private boolean isAutoPilot = true;
+    private int stressBallCount = 0;
+    private long ballSteps = 0;
+    private long subSteps = 0;
+    private long predictedBallSteps = 0;
+    private int maxSubSteps = 0;
+    private boolean isFinished = false;
+    private volatile long lastTick = Long.MAX_VALUE;
+
+    /**
+     * Constructs a new HeadlessSimulation for the given game model.
+     * The engine advances the model's clock by one step per tick.
+     *
+     * @param gameModel The GameModel to simulate.
+     */
+    public HeadlessSimulation(GameModel gameModel) {
+        this.gameModel = gameModel;
+        this.engine = new GameEngine();
+        engine.setOnAction(this);
+        engine.setFps(FPS);
+        engine.setScheduler(manualScheduler);
+        engine.setClock(gameModel.getClock());
+        engine.setInitialTime(gameModel.getTime());
+    }
+
+    /**
+     * Sets whether the paddle automatically follows the ball, so that long simulations do not end after a few misses.
+     *
+     * @param isAutoPilot True to move the paddle under the ball on every step, false to leave it in place.
+     */
+    public void setAutoPilot(boolean isAutoPilot) {
+        this.isAutoPilot = isAutoPilot;
+    }
+
+    /**
+     * Sets a number of balls to keep in play, for stress runs.
+     * Before every step, balls are added at the main ball until the count is reached again.
+     *
+     * @param stressBallCount The number of balls to keep in play, or 0 to play normally.
+     */
+    public void setStressBallCount(int stressBallCount) {
+        this.stressBallCount = stressBallCount;
+    }
+
+    /**
+     * Retrieves the number of balls simulated, summed over all steps.
+     *
+     * @return The total number of ball steps.
+     */
+    public long getBallSteps() {
+        return ballSteps;
+    }
+
+    /**
+     * Retrieves the number of physics sub-steps run, summed over all steps.
+     *
+     * @return The total number of sub-steps.
+     */
+    public long getSubSteps() {
+        return subSteps;
+    }
+
+    /**
+     * Retrieves the number of ball steps that only moved the ball, because it was within its contact horizon.
+     *
+     * @return The total number of predicted ball steps.
+     */
+    public long getPredictedBallSteps() {
+        return predictedBallSteps;
+    }
+
+    /**
+     * Retrieves the largest number of sub-steps a single ball needed in any step.
+     *
+     * @return The most sub-steps of one ball in one step.
+     */
+    public int getMaxSubSteps() {
+        return maxSubSteps;
+    }
+
+    /**
+     * Runs the simulation for a number of fixed steps, or until the game is won or lost.
+     * Starts the first level if no level has been started yet.
+     *
+     * @param ticks The maximum number of steps to run.
+     * @return The number of steps actually run.
+     */
+    public long run(long ticks) {
+        start();
+        long ticksRun = 0;
+        while (ticksRun < ticks && !isFinished) {
+            step();
+            ticksRun++;
+        }
+        engine.stop();
+        return ticksRun;
+    }
+
+    /**
+     * Starts the engine for manual steps, and the first level if no level has been started yet.
+     */
+    void start() {
+        if (gameModel.getLevel() == 0) {
+            startNextLevel();
+        }
+        engine.start();
+    }
+
+    /**
+     * Runs one fixed step of a started simulation on the manual scheduler.
+     */
+    void step() {
+        manualScheduler.step(1);
+    }
+
+    /**
+     * Runs the simulation on the engine's simulation thread at a time scale, for a number of fixed steps
+     * or until the game is won or lost. Blocks until the simulation thread has stopped.
+     *
+     * @param ticks The maximum number of steps to run.
+     * @param timeScale The number of steps per step of wall time, or Double.POSITIVE_INFINITY for unlimited speed.
+     * @return The number of steps actually run.
+     */
+    public long runScaled(long ticks, double timeScale) {
+        if (gameModel.getLevel() == 0) {
+            startNextLevel();
+        }
+        long firstTick = engine.getTickCount();
+        lastTick = firstTick + ticks;
+        if (Double.isInfinite(timeScale)) {
+            engine.setUnlimitedSpeed(true);
+        } else {
+            engine.setUnlimitedSpeed(false);
+            engine.setTimeScale(timeScale);
+        }
+
+        engine.setScheduler(new ThreadTickScheduler());
+        engine.start();
+        try {
+            while (engine.isRunning()) {
+                Thread.sleep(10);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        engine.stop();
+        engine.setScheduler(manualScheduler);
+        lastTick = Long.MAX_VALUE;
+        return engine.getTickCount() - firstTick;
+    }
+
+    /**
+     * Starts the next level by swapping in its board, and prepares the board of the level after it.
+     */
+    private void startNextLevel() {
+        gameModel.addToLevel(1);
+        if (gameModel.getLevel() > LAST_LEVEL) {
+            isFinished = true;
+            return;
+        }
+        gameModel.initBoard();
+        if (gameModel.getLevel() < LAST_LEVEL && !gameModel.isEndless()) {
+            gameModel.prepareNextBoard();
+        }
+    }
+
+    /**
+     * Moves the paddle under the ball unless the paddle is frozen.
+     * The contact point shifts every few seconds so that the ball bounces off at changing angles.
+     */
+    private void followBall() {
+        if (gameModel.getIsFreezeStatus()) {
+            return;
+        }
+        Ball ball = gameModel.getGameball();
+        Paddle paddle = gameModel.getPaddle();
+        long offsetStep = (engine.getTickCount() / (FPS * 3)) % 5 - 2;
+        double x = ball.getX() - (double) paddle.getWidth() / 2 + offsetStep * paddle.getWidth() / 6.0;
+        paddle.setX(Math.max(0, Math.min(x, gameModel.getSceneWidth() - paddle.getWidth())));
+    }
+
+    /**
+     * Runs the update part of a step.
+     */
+    @Override
+    public void onUpdate() {
+        if (isAutoPilot) {
+            followBall();
+        }
+        int missingBalls = stressBallCount - gameModel.getBalls().size();
+        if (missingBalls > 0) {
+            gameModel.addBalls(missingBalls);
+        }
+        ballSteps += gameModel.getBalls().size();
+        gameModel.update();
+    }
+
+    @Override
+    public void onInit() {
+
+    }
+
+    /**
+     * Runs the physics part of a step and moves on to the next level or ends the game when needed.
+     * Stops the engine once a scaled run has finished.
+     */
+    @Override
+    public void onPhysicsUpdate() {
+        if (gameModel.checkLevelCompletion()) {
+            gameModel.initializeNextLevel();
+            gameModel.resetGameElements();
+            startNextLevel();
+        } else {
+            gameModel.updatePhysics();
+            subSteps += gameModel.getPhysics().getSubStepCount();
+            predictedBallSteps += gameModel.getPhysics().getPredictedBallStepCount();
+            maxSubSteps = Math.max(maxSubSteps, gameModel.getPhysics().getMaxSubStepCount());
+            if (gameModel.getHeart() <= 0) {
+                isFinished = true;
+            }
+        }
+        if (isFinished || engine.getTickCount() >= lastTick) {
+            engine.stop();
+        }
+    }
+
+    @Override
+    public void onTime(long time) {
+
+    }
+
+    @Override
+    public void onRender() {
+
+    }
+
+    /**
+     * Checks if the simulated game has been won or lost.
+     *
+     * @return True if the simulation has finished, false otherwise.
+     */
+    public boolean isFinished() {
+        return isFinished;
+    }
+
+    /**
+     * Retrieves the simulated game model.
+     *
+     * @return The GameModel being simulated.
+     */
+    public GameModel getGameModel() {
+        return gameModel;
+    }
+
+    /**
+     * Retrieves the engine of the simulation.
+     *
+     * @return The GameEngine driving the simulation.
+     */
+    public GameEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Runs a headless simulation from the command line and reports how fast it stepped.
+     * Without a time scale the engine is stepped manually as fast as possible.
+     *
+     * With "stress" as the first argument, a number of balls is kept in play instead
+     * and the time per step is compared to the budget of a step at 120 Hz.
+     * With "seed" as the first argument, two games with the same seed are played side by side, the second one checking
+     * every ball in every step without contact prediction, and their state hashes are compared every step;
+     * the process exits with status 1 as soon as they differ.
+     * With "endless" as the first argument, the endless board is played for a number of game minutes, reporting
+     * every minute the blocks the board holds and the heap in use; the process exits with status 1 if the board
+     * holds more blocks than fit in its rows.
+     *
+     * @param args Optionally the number of steps to run, one million by default,
+     *             and a time scale such as 2 or 8, or "max" to run the simulation thread at unlimited speed.
+     *             Alternatively "stress", the number of balls, 500 by default, and the number of steps, 20000 by default,
+     *             or "seed", the seed and the number of steps to run, one million by default,
+     *             or "endless" and the number of game minutes to play, 30 by default.
+     */
+    public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("stress")) {
+            int ballCount = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+            runStress(ballCount, args.length > 2 ? Long.parseLong(args[2]) : 20_000L);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("seed")) {
+            long seed = args.length > 1 ? Long.parseLong(args[1]) : 0L;
+            if (!runDeterminismCheck(seed, args.length > 2 ? Long.parseLong(args[2]) : 1_000_000L)) {
+                System.exit(1);
+            }
+            return;
+        }
+        if (args.length > 0 && args[0].equals("endless")) {
+            if (!runEndless(args.length > 1 ? Integer.parseInt(args[1]) : 30)) {
+                System.exit(1);
+            }
+            return;
+        }
+        long ticks = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000L;
+        HeadlessSimulation simulation = new HeadlessSimulation(new GameModel());
+
+        long start = System.nanoTime();
+        long ticksRun;
+        if (args.length > 1) {
+            double timeScale = args[1].equals("max") ? Double.POSITIVE_INFINITY : Double.parseDouble(args[1]);
+            ticksRun = simulation.runScaled(ticks, timeScale);
+        } else {
+            ticksRun = simulation.run(ticks);
+        }
+        double elapsedMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+        GameModel gameModel = simulation.getGameModel();
+        System.out.printf("Ran %d ticks in %.1f ms (%.0f ticks/ms), level %d, score %d, hearts %d%n",
+                ticksRun, elapsedMillis, ticksRun / elapsedMillis, gameModel.getLevel(), gameModel.getScore(), gameModel.getHeart());
+        System.out.printf("Physics sub-steps: %.2f per tick on average, %d at most%n",
+                (double) simulation.getSubSteps() / ticksRun, simulation.getMaxSubSteps());
+        System.out.printf("Contact prediction: %.1f%% of ball steps only moved the ball%n",
+                simulation.getPredictedBallSteps() * 100.0 / Math.max(1, simulation.getBallSteps()));
+        System.out.printf("Seed %d, state hash %016x%n", gameModel.getSeed(), gameModel.computeStateHash());
+    }
+
+    /**
+     * Plays two games with the same seed step by step and compares their state hashes after every step.
+     * The second game checks every ball in every step, so the check also shows that contact prediction
+     * does not change the game, and the time each game spends in its steps is reported.
+     * The final hash is printed, so runs on other machines and JVMs can be compared with it.
+     *
+     * @param seed The seed of both games.
+     * @param ticks The maximum number of steps to run.
+     * @return True if both games stayed identical, false otherwise.
+     */
+    private static boolean runDeterminismCheck(long seed, long ticks) {
+        HeadlessSimulation first = new HeadlessSimulation(new GameModel(seed));
+        HeadlessSimulation second = new HeadlessSimulation(new GameModel(seed));
+        second.gameModel.getPhysics().setContactPrediction(false);
+        first.startNextLevel();
+        second.startNextLevel();
+        first.engine.start();
+        second.engine.start();
+
+        long tick = 0;
+        long firstNanos = 0;
+        long secondNanos = 0;
+        boolean isIdentical = true;
+        while (tick < ticks && !first.isFinished && !second.isFinished) {
+            long start = System.nanoTime();
+            first.manualScheduler.step(1);
+            long middle = System.nanoTime();
+            second.manualScheduler.step(1);
+            secondNanos += System.nanoTime() - middle;
+            firstNanos += middle - start;
+            tick++;
+            if (first.gameModel.computeStateHash() != second.gameModel.computeStateHash()) {
+                isIdentical = false;
+                break;
+            }
+        }
+        first.engine.stop();
+        second.engine.stop();
+
+        GameModel gameModel = first.getGameModel();
+        if (isIdentical) {
+            System.out.printf("Seed %d: %d ticks identical, level %d, score %d, hearts %d, state hash %016x%n",
+                    seed, tick, gameModel.getLevel(), gameModel.getScore(), gameModel.getHeart(), gameModel.computeStateHash());
+            System.out.printf("Steps took %.1f ms with contact prediction, %.1f ms checking every ball%n",
+                    firstNanos / 1_000_000.0, secondNanos / 1_000_000.0);
+        } else {
+            System.out.printf("Seed %d: games diverged at tick %d%n", seed, tick);
+        }
+        return isIdentical;
+    }
+
+    /**
+     * Plays the endless board for a number of game minutes and reports once per minute how many blocks the board holds,
+     * how many of them are alive, how many rows have entered it and how much heap is in use after a garbage collection.
+     * A board that releases the rows leaving play holds a bounded number of blocks, and the heap stays flat however long it runs.
+     *
+     * @param minutes The number of game minutes to play.
+     * @return True if the board never held more blocks than fit in its rows, false otherwise.
+     */
+    private static boolean runEndless(int minutes) {
+        GameModel model = new GameModel(0L);
+        model.setEndless(true);
+        HeadlessSimulation simulation = new HeadlessSimulation(model);
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        BlockStore blockStore = model.getBlockStore();
+        int mostBlocks = 0;
+
+        for (int minute = 1; minute <= minutes && !simulation.isFinished(); minute++) {
+            simulation.run(60L * FPS);
+            int maxRow = -1;
+            for (int i = 0; i < blockStore.size(); i++) {
+                maxRow = Math.max(maxRow, blockStore.getBlock(i).row);
+            }
+            mostBlocks = Math.max(mostBlocks, blockStore.size());
+            System.gc();
+            System.out.printf("Minute %3d: %3d blocks held, %3d alive, lowest row %2d, %5d rows entered, score %6d, heap %6.1f MB%n",
+                    minute, blockStore.size(), blockStore.getAliveCount(), maxRow, model.getEndlessRowCount(), model.getScore(),
+                    memory.getHeapMemoryUsage().getUsed() / (1024.0 * 1024.0));
+        }
+
+        model.stopEndlessBoard();
+        int capacity = model.getBoardConfig().getColumns() * (model.getEndlessLastRow() + 1);
+        if (mostBlocks > capacity) {
+            System.out.printf("The board held %d blocks, more than the %d that fit in its rows%n", mostBlocks, capacity);
+            return false;
+        }
+        System.out.printf("The board held at most %d of the %d blocks that fit in its rows%n", mostBlocks, capacity);
+        return true;
+    }
+
+    /**
+     * Runs a stress simulation that keeps a number of balls in play and reports the time per step.
+     *
+     * @param ballCount The number of balls to keep in play.
+     * @param ticks The maximum number of steps to run.
+     */
+    private static void runStress(int ballCount, long ticks) {
+        HeadlessSimulation simulation = new HeadlessSimulation(new GameModel());
+        simulation.setStressBallCount(ballCount);
+
+        long start = System.nanoTime();
+        long ticksRun = simulation.run(ticks);
+        double elapsedMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+        double microsPerTick = elapsedMillis * 1000 / ticksRun;
+        double budgetMicros = 1_000_000.0 / FPS;
+        System.out.printf("Ran %d ticks with %d balls (%.0f on average) in %.1f ms, %.1f us per tick, %.2f%% of a %d Hz step%n",
+                ticksRun, ballCount, (double) simulation.getBallSteps() / ticksRun, elapsedMillis,
+                microsPerTick, microsPerTick * 100 / budgetMicros, FPS);
+    }
+}
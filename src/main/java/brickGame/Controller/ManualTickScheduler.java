@@ -0,0 +1,45 @@
+package brickGame.Controller;
+
+/**
+ * Tick scheduler that never runs frames on its own; the caller advances the engine with step.
+ * Used by headless simulations, benchmarks and checks that need an exact number of steps on the calling thread.
+ */
+public class ManualTickScheduler implements GameEngine.TickScheduler {
+    private GameEngine engine;
+
+    /**
+     * Attaches the scheduler to the engine it steps.
+     *
+     * @param engine The GameEngine advanced by step.
+     */
+    @Override
+    public void start(GameEngine engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * Detaches the scheduler. Nothing runs in the background, so there is nothing to wait for.
+     */
+    @Override
+    public void stop() {
+    }
+
+    /**
+     * Frames run on whichever thread calls step.
+     *
+     * @return Always true.
+     */
+    @Override
+    public boolean isFrameThread() {
+        return true;
+    }
+
+    /**
+     * Advances the engine by a number of fixed steps and renders once.
+     *
+     * @param steps The number of fixed steps to run.
+     */
+    public void step(int steps) {
+        engine.step(steps);
+    }
+}
@@ -0,0 +1,45 @@
+package brickGame.Controller;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Dedicated thread that runs the game engine's frames away from the JavaFX Application Thread.
+ * It wakes up once per fixed step of wall time, so a slow render never delays physics and a physics spike never blocks rendering.
+ * With a time scale the engine runs several steps in each of these frames; at unlimited speed
+ * a frame fills the whole period with steps and the thread does not park at all.
+ */
+class SimulationThread extends Thread {
+    private final GameEngine engine;
+
+    /**
+     * Constructs a new SimulationThread for the given engine.
+     * The thread is a daemon so that it never keeps the application alive after the window closes.
+     *
+     * @param engine The GameEngine whose frames the thread runs.
+     */
+    SimulationThread(GameEngine engine) {
+        super("Game Simulation");
+        this.engine = engine;
+        setDaemon(true);
+    }
+
+    /**
+     * Runs engine frames until the engine is stopped, parking between frames until the next step is due.
+     */
+    @Override
+    public void run() {
+        long nextFrame = System.nanoTime();
+        while (engine.isRunning()) {
+            long now = System.nanoTime();
+            engine.runFrame(now);
+
+            nextFrame += engine.getStepNanos();
+            long waitNanos = nextFrame - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            } else {
+                nextFrame = System.nanoTime();
+            }
+        }
+    }
+}
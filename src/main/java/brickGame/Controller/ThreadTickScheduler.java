@@ -0,0 +1,46 @@
+package brickGame.Controller;
+
+/**
+ * Tick scheduler that runs the engine's frames on a dedicated SimulationThread, parking precisely between frames.
+ * Used on screen by default, and by headless simulations that run at a time scale.
+ */
+public class ThreadTickScheduler implements GameEngine.TickScheduler {
+    private SimulationThread thread;
+
+    /**
+     * Starts a new simulation thread running the frames of the given engine.
+     *
+     * @param engine The GameEngine whose frames are run.
+     */
+    @Override
+    public void start(GameEngine engine) {
+        thread = new SimulationThread(engine);
+        thread.start();
+    }
+
+    /**
+     * Waits for the simulation thread to finish its current frame, unless called from the simulation thread itself.
+     * The thread ends on its own once the engine is stopped.
+     */
+    @Override
+    public void stop() {
+        SimulationThread current = thread;
+        if (current != null && current != Thread.currentThread()) {
+            try {
+                current.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Checks if the calling thread is the simulation thread.
+     *
+     * @return True if called from the simulation thread, false otherwise.
+     */
+    @Override
+    public boolean isFrameThread() {
+        return thread != null && thread == Thread.currentThread();
+    }
+}
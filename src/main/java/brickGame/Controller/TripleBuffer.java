@@ -0,0 +1,64 @@
+package brickGame.Controller;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free triple buffer that hands the newest value from one writer thread to one reader thread.
+ * The writer fills its back buffer and publishes it; the reader always takes the most recently published buffer.
+ * Neither side ever waits for the other, and a published buffer is not touched by the writer again
+ * until the reader has moved on to a newer one.
+ *
+ * @param <T> The type of the buffered values.
+ */
+public class TripleBuffer<T> {
+    private static final int INDEX_MASK = 0b011;
+    private static final int DIRTY = 0b100;
+    private final Object[] buffers = new Object[3];
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int back = 0;
+    private int front = 2;
+
+    /**
+     * Constructs a new TripleBuffer with three buffers created by the given factory.
+     *
+     * @param factory Creates each of the three buffers.
+     */
+    public TripleBuffer(Supplier<T> factory) {
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = factory.get();
+        }
+    }
+
+    /**
+     * Retrieves the buffer the writer may currently fill. Must only be called by the writer thread.
+     *
+     * @return The writer's back buffer.
+     */
+    @SuppressWarnings("unchecked")
+    public T getWriteBuffer() {
+        return (T) buffers[back];
+    }
+
+    /**
+     * Publishes the filled back buffer to the reader and takes over the previous middle buffer.
+     * Must only be called by the writer thread.
+     */
+    public void publish() {
+        back = middle.getAndSet(back | DIRTY) & INDEX_MASK;
+    }
+
+    /**
+     * Retrieves the most recently published buffer. Must only be called by the reader thread.
+     * Returns the same buffer as the previous call when nothing new has been published.
+     *
+     * @return The newest published buffer.
+     */
+    @SuppressWarnings("unchecked")
+    public T read() {
+        if ((middle.get() & DIRTY) != 0) {
+            front = middle.getAndSet(front) & INDEX_MASK;
+        }
+        return (T) buffers[front];
+    }
+}
@@ -0,0 +1,133 @@
+package brickGame.Controller;
+
+import java.util.AbstractMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Buffer of UI commands that the simulation thread collects during a frame and the JavaFX Application Thread
+ * runs together once per pulse, instead of queueing a separate Platform.runLater task for every event.
+ * Commands are stored under a key; a later command with the same key replaces the earlier one,
+ * so repeated updates of the same node within a frame collapse into a single command.
+ * The number of commands per frame is kept as a metric.
+ */
+class UiCommandBuffer {
+    private Map<Object, Runnable> pending = new LinkedHashMap<>();
+    private Map<Object, Runnable> committed = new LinkedHashMap<>();
+    private Map<Object, Runnable> flushing = new LinkedHashMap<>();
+    private int frameCommandCount = 0;
+    private int frameCollapsedCount = 0;
+    private volatile int lastFrameCommandCount = 0;
+    private volatile int lastFrameCollapsedCount = 0;
+    private volatile int lastFlushCommandCount = 0;
+
+    /**
+     * Adds a command that never collapses with another one, such as a score popup.
+     * Must only be called by the simulation thread.
+     *
+     * @param command The UI command to run on the JavaFX Application Thread.
+     */
+    void add(Runnable command) {
+        put(new Object(), command);
+    }
+
+    /**
+     * Adds a command for a node, replacing any command of the same kind for that node still waiting in this frame.
+     * Must only be called by the simulation thread.
+     *
+     * @param node The model object whose UI node the command updates.
+     * @param kind The kind of update, so different updates of the same node do not replace each other.
+     * @param command The UI command to run on the JavaFX Application Thread.
+     */
+    void put(Object node, String kind, Runnable command) {
+        put(new AbstractMap.SimpleImmutableEntry<>(node, kind), command);
+    }
+
+    /**
+     * Stores a command under a key, moving it behind the commands added since the one it replaces.
+     *
+     * @param key The key under which the command collapses.
+     * @param command The UI command.
+     */
+    private void put(Object key, Runnable command) {
+        if (pending.remove(key) != null) {
+            frameCollapsedCount++;
+        }
+        pending.put(key, command);
+        frameCommandCount++;
+    }
+
+    /**
+     * Hands the commands collected during the frame over to the next flush.
+     * Commands the JavaFX thread has not flushed yet are merged, collapsing with the new ones.
+     * Must only be called by the simulation thread, once at the end of every frame.
+     */
+    void commitFrame() {
+        lastFrameCommandCount = frameCommandCount;
+        lastFrameCollapsedCount = frameCollapsedCount;
+        frameCommandCount = 0;
+        frameCollapsedCount = 0;
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        synchronized (this) {
+            if (committed.isEmpty()) {
+                Map<Object, Runnable> swap = committed;
+                committed = pending;
+                pending = swap;
+            } else {
+                for (Map.Entry<Object, Runnable> entry : pending.entrySet()) {
+                    committed.remove(entry.getKey());
+                    committed.put(entry.getKey(), entry.getValue());
+                }
+                pending.clear();
+            }
+        }
+    }
+
+    /**
+     * Runs all committed commands in the order they were added.
+     * Must only be called by the JavaFX Application Thread, once per pulse.
+     */
+    void flush() {
+        synchronized (this) {
+            Map<Object, Runnable> swap = flushing;
+            flushing = committed;
+            committed = swap;
+        }
+
+        lastFlushCommandCount = flushing.size();
+        for (Runnable command : flushing.values()) {
+            command.run();
+        }
+        flushing.clear();
+    }
+
+    /**
+     * Retrieves the number of commands added during the last committed frame, including collapsed ones.
+     *
+     * @return The number of commands added in the last frame.
+     */
+    int getLastFrameCommandCount() {
+        return lastFrameCommandCount;
+    }
+
+    /**
+     * Retrieves the number of commands of the last committed frame that were replaced by a later command.
+     *
+     * @return The number of collapsed commands in the last frame.
+     */
+    int getLastFrameCollapsedCount() {
+        return lastFrameCollapsedCount;
+    }
+
+    /**
+     * Retrieves the number of commands run by the last flush.
+     *
+     * @return The number of commands run in the last pulse.
+     */
+    int getLastFlushCommandCount() {
+        return lastFlushCommandCount;
+    }
+}
@@ -20,8 +20,8 @@ public class Main extends Application {
      */
     @Override
     public void start(Stage primaryStage) {
-        GameModel gameModel = new GameModel();
-        GameView gameView = new GameView();
+        GameModel gameModel = GameController.createGameModel();
+        GameView gameView = GameController.createGameView(gameModel);
 
         GameController gameController = new GameController(gameModel, gameView);
         gameController.start(primaryStage);
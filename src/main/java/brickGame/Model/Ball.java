@@ -1,90 +1,137 @@
 package brickGame.Model;
 
 /**
- * Represents the ball in the brick game.
+ * Represents a ball in the brick game.
  * This class manages the ball's position, velocity, direction, and behavior when bouncing off surfaces.
+ * The state of the ball lives in a BallStore; a Ball is a handle on one index of the store,
+ * and physics moves a single handle over all indexes instead of keeping an object per ball.
  */
 public class Ball {
-    private double x;
-    private double y;
-    private final int radius;
-    private double velocityX;
-    private double velocityY;
-    private boolean goingDown;
-    private boolean goingRight;
-    private static final float angleAdjustment = 0.3f;
+    private final BallStore store;
+    private int index;
+    static final float ANGLE_ADJUSTMENT = 0.3f;
 
     /**
-     * Constructs a new Ball object with a specified start position.
+     * Constructs a new Ball in a store of its own with a specified start position.
      *
      * @param startX The initial x-coordinate of the ball.
      * @param startY The initial y-coordinate of the ball.
      */
     public Ball(double startX, double startY) {
-        this.x = startX;
-        this.y = startY;
-        this.radius = 10;
-        this.velocityX = 1.0;
-        this.velocityY = 1.0;
-        this.goingDown = true;
-        this.goingRight = true;
+        this(new BallStore(), 0);
+        store.add(startX, startY);
+    }
+
+    /**
+     * Constructs a new handle on a ball of a store.
+     *
+     * @param store The store holding the ball's state.
+     * @param index The index of the ball in the store.
+     */
+    Ball(BallStore store, int index) {
+        this.store = store;
+        this.index = index;
+    }
+
+    /**
+     * Moves the handle to another ball of the same store.
+     *
+     * @param index The index of the ball in the store.
+     */
+    void setIndex(int index) {
+        this.index = index;
+    }
+
+    /**
+     * Retrieves the index of the ball in its store.
+     *
+     * @return The index of the ball.
+     */
+    public int getIndex() {
+        return index;
     }
 
     /**
      * Updates the position of the ball based on its current velocity and direction.
      */
     public void updatePosition() {
-        this.x += goingRight ? velocityX : -velocityX;
-        this.y += goingDown ? velocityY : -velocityY;
+        updatePosition(1.0);
+    }
+
+    /**
+     * Moves the ball by a part of its velocity, for physics steps split into sub-steps.
+     *
+     * @param fraction The part of the velocity to move by, between 0 and 1.
+     */
+    public void updatePosition(double fraction) {
+        store.move(index, getDeltaX() * fraction, getDeltaY() * fraction);
+    }
+
+    /**
+     * Retrieves how far the ball moves along the x-axis in its next position update.
+     *
+     * @return The signed movement along the x-axis.
+     */
+    public double getDeltaX() {
+        return store.isGoingRight(index) ? store.getVelocityX(index) : -store.getVelocityX(index);
+    }
+
+    /**
+     * Retrieves how far the ball moves along the y-axis in its next position update.
+     *
+     * @return The signed movement along the y-axis.
+     */
+    public double getDeltaY() {
+        return store.isGoingDown(index) ? store.getVelocityY(index) : -store.getVelocityY(index);
     }
 
     /**
      * Adjusts the vertical angle of the ball to change its trajectory.
      */
     public void adjustVerticalAngle() {
-        this.velocityY += angleAdjustment;
+        store.setVelocityY(index, store.getVelocityY(index) + ANGLE_ADJUSTMENT);
     }
 
     /**
      * Changes the ball's vertical direction upwards.
      */
     public void bounceUp() {
-        this.goingDown = false;
+        store.setGoingDown(index, false);
     }
 
     /**
      * Changes the ball's vertical direction downwards.
      */
     public void bounceDown() {
-        this.goingDown = true;
+        store.setGoingDown(index, true);
     }
 
     /**
      * Changes the ball's horizontal direction to the left.
      */
     public void bounceLeft() {
-        this.goingRight = false;
+        store.setGoingRight(index, false);
     }
 
     /**
      * Changes the ball's horizontal direction to the left.
      */
     public void bounceRight() {
-        this.goingRight = true;
+        store.setGoingRight(index, true);
     }
 
     /**
      * Reverses the ball's vertical direction.
      */
     public void bounceVertically() {
-        this.goingDown = !this.goingDown;
+        store.setGoingDown(index, !store.isGoingDown(index));
     }
 
     /**
      * Reverses the ball's horizontal direction.
      */
     public void bounceHorizontally() {
-        this.goingRight = !this.goingRight;
+        store.setGoingRight(index, !store.isGoingRight(index));
     }
 
     /**
@@ -93,7 +140,7 @@ public class Ball {
      * @param goingDown True if the ball should move downwards, false otherwise.
      */
     public void setGoingDown(boolean goingDown){
-        this.goingDown = goingDown;
+        store.setGoingDown(index, goingDown);
     }
 
     /**
@@ -102,7 +149,7 @@ public class Ball {
      * @param goingRight True if the ball should move to the right, false otherwise.
      */
     public void setGoingRight(boolean goingRight){
-        this.goingRight = goingRight;
+        store.setGoingRight(index, goingRight);
     }
 
     // Getters and setters
@@ -112,7 +159,7 @@ public class Ball {
      * @return The x-coordinate.
      */
     public double getX() {
-        return x;
+        return store.getX(index);
     }
 
     /**
@@ -121,7 +168,7 @@ public class Ball {
      * @param x The new x-coordinate.
      */
     public void setX(double x) {
-        this.x = x;
+        store.setX(index, x);
     }
 
     /**
@@ -130,7 +177,7 @@ public class Ball {
      * @return The y    -coordinate.
      */
     public double getY() {
-        return y;
+        return store.getY(index);
     }
 
     /**
@@ -139,7 +186,7 @@ public class Ball {
      * @param y The new x-coordinate.
      */
     public void setY(double y) {
-        this.y = y;
+        store.setY(index, y);
     }
 
     /**
@@ -148,7 +195,7 @@ public class Ball {
      * @return The radius of the ball.
      */
     public int getRadius() {
-        return radius;
+        return BallStore.RADIUS;
     }
 
     /**
@@ -157,7 +204,7 @@ public class Ball {
      * @return The horizontal velocity.
      */
     public double getVelocityX() {
-        return velocityX;
+        return store.getVelocityX(index);
     }
 
     /**
@@ -166,7 +213,7 @@ public class Ball {
      * @param velocityX The new horizontal velocity.
      */
     public void setVelocityX(double velocityX) {
-        this.velocityX = velocityX;
+        store.setVelocityX(index, velocityX);
     }
 
     /**
@@ -175,7 +222,7 @@ public class Ball {
      * @return The vertical velocity.
      */
     public double getVelocityY() {
-        return velocityY;
+        return store.getVelocityY(index);
     }
 
     /**
@@ -184,7 +231,7 @@ public class Ball {
      * @param velocityY The new vertical velocity.
      */
     public void setVelocityY(double velocityY) {
-        this.velocityY = velocityY;
+        store.setVelocityY(index, velocityY);
     }
 
     /**
@@ -193,7 +240,7 @@ public class Ball {
      * @return True if the ball is moving down, false otherwise.
      */
     public boolean isGoingDown() {
-        return goingDown;
+        return store.isGoingDown(index);
     }
 
     /**
@@ -202,7 +249,7 @@ public class Ball {
      * @return True if the ball is moving right, false otherwise.
      */
     public boolean isGoingRight() {
-        return goingRight;
+        return store.isGoingRight(index);
     }
 
     /**
@@ -211,7 +258,7 @@ public class Ball {
      * @return True if the ball is moving left, false otherwise.
      */
     public boolean isGoingLeft() {
-        return !goingRight;
+        return !store.isGoingRight(index);
     }
 
     /**
@@ -220,7 +267,7 @@ public class Ball {
      * @return True if the ball is moving up, false otherwise.
      */
     public boolean isGoingUp() {
-        return !goingDown;
+        return !store.isGoingDown(index);
     }
 
 }
@@ -0,0 +1,333 @@
+package brickGame.Model;
+
+import java.util.Arrays;
+
+/**
+ * Structure-of-arrays store of the balls in play.
+ * Positions, positions at the previous step, speeds and directions of all balls are kept in primitive arrays,
+ * so physics and collision handling run over every ball in one indexed pass without an object per ball.
+ * The ball at index 0 is the main ball; a Ball is a handle on one index of the store.
+ * Removing a ball moves the last ball into its slot, so loops that remove balls should run from the last index down.
+ * Every ball also carries its contact horizon, the number of coming steps in which physics has predicted it cannot touch
+ * anything. Moving a ball along its velocity keeps the horizon; setting its position, speed or direction directly clears it.
+ */
+public class BallStore {
+    public static final int RADIUS = 10;
+    private static final int INITIAL_CAPACITY = 8;
+
+    private double[] xs = new double[INITIAL_CAPACITY];
+    private double[] ys = new double[INITIAL_CAPACITY];
+    private double[] previousXs = new double[INITIAL_CAPACITY];
+    private double[] previousYs = new double[INITIAL_CAPACITY];
+    private double[] velocityXs = new double[INITIAL_CAPACITY];
+    private double[] velocityYs = new double[INITIAL_CAPACITY];
+    private boolean[] goingDowns = new boolean[INITIAL_CAPACITY];
+    private boolean[] goingRights = new boolean[INITIAL_CAPACITY];
+    private int[] contactHorizons = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Adds a ball moving down and to the right at the default speed.
+     *
+     * @param x The x-coordinate of the ball.
+     * @param y The y-coordinate of the ball.
+     * @return The index of the new ball.
+     */
+    public int add(double x, double y) {
+        return add(x, y, 1.0, 1.0, true, true);
+    }
+
+    /**
+     * Adds a ball.
+     *
+     * @param x The x-coordinate of the ball.
+     * @param y The y-coordinate of the ball.
+     * @param velocityX The horizontal speed of the ball.
+     * @param velocityY The vertical speed of the ball.
+     * @param goingDown True if the ball moves down, false if it moves up.
+     * @param goingRight True if the ball moves right, false if it moves left.
+     * @return The index of the new ball.
+     */
+    public int add(double x, double y, double velocityX, double velocityY, boolean goingDown, boolean goingRight) {
+        if (size == xs.length) {
+            grow(size * 2);
+        }
+        int index = size++;
+        xs[index] = x;
+        ys[index] = y;
+        previousXs[index] = x;
+        previousYs[index] = y;
+        velocityXs[index] = velocityX;
+        velocityYs[index] = velocityY;
+        goingDowns[index] = goingDown;
+        goingRights[index] = goingRight;
+        contactHorizons[index] = 0;
+        return index;
+    }
+
+    /**
+     * Removes a ball by moving the last ball into its slot.
+     *
+     * @param index The index of the ball to remove.
+     */
+    public void remove(int index) {
+        int last = --size;
+        if (index != last) {
+            xs[index] = xs[last];
+            ys[index] = ys[last];
+            previousXs[index] = previousXs[last];
+            previousYs[index] = previousYs[last];
+            velocityXs[index] = velocityXs[last];
+            velocityYs[index] = velocityYs[last];
+            goingDowns[index] = goingDowns[last];
+            goingRights[index] = goingRights[last];
+            contactHorizons[index] = contactHorizons[last];
+        }
+    }
+
+    /**
+     * Removes all balls.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Retrieves the number of balls in play.
+     *
+     * @return The number of balls.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Records the current position of every ball as its previous position, at the start of a step.
+     */
+    public void recordPreviousPositions() {
+        System.arraycopy(xs, 0, previousXs, 0, size);
+        System.arraycopy(ys, 0, previousYs, 0, size);
+    }
+
+    /**
+     * Moves a ball along its velocity, keeping its contact horizon.
+     *
+     * @param index The index of the ball.
+     * @param deltaX The movement along the x-axis.
+     * @param deltaY The movement along the y-axis.
+     */
+    void move(int index, double deltaX, double deltaY) {
+        xs[index] += deltaX;
+        ys[index] += deltaY;
+    }
+
+    /**
+     * Retrieves the number of coming steps in which a ball cannot touch a wall, the paddle or a block.
+     *
+     * @param index The index of the ball.
+     * @return The contact horizon in steps, 0 if the ball has to be checked in the next step.
+     */
+    public int getContactHorizon(int index) {
+        return contactHorizons[index];
+    }
+
+    /**
+     * Sets the number of coming steps in which a ball cannot touch a wall, the paddle or a block.
+     *
+     * @param index The index of the ball.
+     * @param ticks The contact horizon in steps.
+     */
+    void setContactHorizon(int index, int ticks) {
+        contactHorizons[index] = ticks;
+    }
+
+    /**
+     * Clears the contact horizon of every ball, when the board changes under the balls.
+     */
+    public void clearContactHorizons() {
+        Arrays.fill(contactHorizons, 0, size, 0);
+    }
+
+    /**
+     * Retrieves the x-coordinate of a ball.
+     *
+     * @param index The index of the ball.
+     * @return The x-coordinate.
+     */
+    public double getX(int index) {
+        return xs[index];
+    }
+
+    /**
+     * Sets the x-coordinate of a ball.
+     *
+     * @param index The index of the ball.
+     * @param x The x-coordinate.
+     */
+    void setX(int index, double x) {
+        xs[index] = x;
+        contactHorizons[index] = 0;
+    }
+
+    /**
+     * Retrieves the y-coordinate of a ball.
+     *
+     * @param index The index of the ball.
+     * @return The y-coordinate.
+     */
+    public double getY(int index) {
+        return ys[index];
+    }
+
+    /**
+     * Sets the y-coordinate of a ball.
+     *
+     * @param index The index of the ball.
+     * @param y The y-coordinate.
+     */
+    void setY(int index, double y) {
+        ys[index] = y;
+        contactHorizons[index] = 0;
+    }
+
+    /**
+     * Retrieves the x-coordinate of a ball at the previous step.
+     *
+     * @param index The index of the ball.
+     * @return The previous x-coordinate.
+     */
+    public double getPreviousX(int index) {
+        return previousXs[index];
+    }
+
+    /**
+     * Sets the x-coordinate of a ball at the previous step.
+     *
+     * @param index The index of the ball.
+     * @param x The previous x-coordinate.
+     */
+    public void setPreviousX(int index, double x) {
+        previousXs[index] = x;
+    }
+
+    /**
+     * Retrieves the y-coordinate of a ball at the previous step.
+     *
+     * @param index The index of the ball.
+     * @return The previous y-coordinate.
+     */
+    public double getPreviousY(int index) {
+        return previousYs[index];
+    }
+
+    /**
+     * Sets the y-coordinate of a ball at the previous step.
+     *
+     * @param index The index of the ball.
+     * @param y The previous y-coordinate.
+     */
+    public void setPreviousY(int index, double y) {
+        previousYs[index] = y;
+    }
+
+    /**
+     * Retrieves the horizontal speed of a ball.
+     *
+     * @param index The index of the ball.
+     * @return The horizontal speed.
+     */
+    public double getVelocityX(int index) {
+        return velocityXs[index];
+    }
+
+    /**
+     * Sets the horizontal speed of a ball.
+     *
+     * @param index The index of the ball.
+     * @param velocityX The horizontal speed.
+     */
+    void setVelocityX(int index, double velocityX) {
+        velocityXs[index] = velocityX;
+        contactHorizons[index] = 0;
+    }
+
+    /**
+     * Retrieves the vertical speed of a ball.
+     *
+     * @param index The index of the ball.
+     * @return The vertical speed.
+     */
+    public double getVelocityY(int index) {
+        return velocityYs[index];
+    }
+
+    /**
+     * Sets the vertical speed of a ball.
+     *
+     * @param index The index of the ball.
+     * @param velocityY The vertical speed.
+     */
+    void setVelocityY(int index, double velocityY) {
+        velocityYs[index] = velocityY;
+        contactHorizons[index] = 0;
+    }
+
+    /**
+     * Checks if a ball moves down.
+     *
+     * @param index The index of the ball.
+     * @return True if the ball moves down, false if it moves up.
+     */
+    public boolean isGoingDown(int index) {
+        return goingDowns[index];
+    }
+
+    /**
+     * Sets whether a ball moves down.
+     *
+     * @param index The index of the ball.
+     * @param goingDown True to move the ball down, false to move it up.
+     */
+    void setGoingDown(int index, boolean goingDown) {
+        goingDowns[index] = goingDown;
+        contactHorizons[index] = 0;
+    }
+
+    /**
+     * Checks if a ball moves right.
+     *
+     * @param index The index of the ball.
+     * @return True if the ball moves right, false if it moves left.
+     */
+    public boolean isGoingRight(int index) {
+        return goingRights[index];
+    }
+
+    /**
+     * Sets whether a ball moves right.
+     *
+     * @param index The index of the ball.
+     * @param goingRight True to move the ball right, false to move it left.
+     */
+    void setGoingRight(int index, boolean goingRight) {
+        goingRights[index] = goingRight;
+        contactHorizons[index] = 0;
+    }
+
+    /**
+     * Grows the arrays to a new capacity.
+     *
+     * @param capacity The new capacity.
+     */
+    private void grow(int capacity) {
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        previousXs = Arrays.copyOf(previousXs, capacity);
+        previousYs = Arrays.copyOf(previousYs, capacity);
+        velocityXs = Arrays.copyOf(velocityXs, capacity);
+        velocityYs = Arrays.copyOf(velocityYs, capacity);
+        goingDowns = Arrays.copyOf(goingDowns, capacity);
+        goingRights = Arrays.copyOf(goingRights, capacity);
+        contactHorizons = Arrays.copyOf(contactHorizons, capacity);
+    }
+}
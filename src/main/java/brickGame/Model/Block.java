@@ -1,31 +1,22 @@
 package brickGame.Model;
 
-import brickGame.View.BlockView;
-import javafx.scene.image.Image;
-import javafx.scene.paint.Color;
-import javafx.scene.paint.ImagePattern;
-import javafx.scene.shape.Rectangle;
-import javafx.scene.text.Text;
-
 import java.io.Serializable;
-import java.util.Random;
 
 /**
  * Represents a block in the brick game, including its position, size, type, and collision properties.
- * Blocks can have different types, influencing their behavior and interaction with the ball.
+ * Blocks can have different types, influencing their behavior and interaction with the ball;
+ * a block only keeps the id of its type, and the behaviour shared by all blocks of a type is described by its BlockType.
+ * The size of a block and the padding around the board come from the board configuration of the running game,
+ * which is shared by all blocks instead of being stored in each one.
  */
 public class Block implements Serializable {
-    private static Block block = new Block(-1, -1, 99, 0);
+    private static BoardConfig layout = BoardConfig.DEFAULT;
     public int row;
     public int column;
     public boolean isDestroyed = false;
     public int type;
     public int x;
     public int y;
-    private int width = 100;
-    private int height = 30;
-    private int paddingTop = height * 2;
-    private int paddingH = 50;
     public static int NO_HIT = -1;
     public static int HIT_RIGHT = 0;
     public static int HIT_BOTTOM = 1;
@@ -45,13 +36,7 @@ public class Block implements Serializable {
     public static int Block_GHOST= 106;
     public static int BLOCK_COUNT_BREAKER =107;
     private int hitsToDestroy;
-    private int currentHits;
-    private long lastHitTime = -1;
-    private static final long COOLDOWN_TIME = 25;
-    public boolean isAlreadyHit = false;
-    private boolean blockHitFlagReset = false;
-    public Text blockText;
-    private BlockView blockView;
+    static final long COOLDOWN_TIME = 25;
 
     /**
      * Constructs a new Block object with specified parameters.
@@ -66,11 +51,10 @@ public class Block implements Serializable {
         this.column = column;
         this.type = type;
 
-        if (this.type == BLOCK_COUNT_BREAKER) {
+        if (BlockType.of(type).isCountingHits()) {
             this.hitsToDestroy = hitsToDestroy;
         }
 
-        this.blockView = new BlockView(this);
         this.setPosition();
     }
 
@@ -78,116 +62,228 @@ public class Block implements Serializable {
      * Sets the position of the block based on its row and column.
      */
     private void setPosition() {
-        x = (column * width) + paddingH;
-        y = (row * height) + paddingTop;
+        x = (column * layout.getBlockWidth()) + layout.getPaddingH();
+        y = (row * layout.getBlockHeight()) + layout.getPaddingTop();
     }
 
     /**
-     * Resets the hit flag for the block once, if it has been hit.
-     * Used to manage the state of the block in consecutive hits.
+     * Moves the block to another row of the same column, as the endless board scrolls.
+     *
+     * @param row The new row of the block.
      */
-    public void resetHitFlagOnce() {
-        if (isAlreadyHit) {
-            isAlreadyHit = false;
-            blockHitFlagReset = true;
-        } else {
-            blockHitFlagReset = false;
-        }
+    void moveToRow(int row) {
+        this.row = row;
+        setPosition();
     }
 
     /**
-     * Checks if the ball has hit the block and determines the type of collision
+     * Checks if the ball hits the block while it moves by the given displacement, treating the ball as a swept circle.
      *
-     * @param xBall The current x-coordinate of the ball.
-     * @param yBall The current y-coordinate of the ball.
-     * @param xBallPrevious The previous x-coordinate of the ball.
-     * @param yBallPrevious The previous y-coordinate of the ball.
+     * @param xBall The x-coordinate of the ball at the start of the movement.
+     * @param yBall The y-coordinate of the ball at the start of the movement.
+     * @param deltaX The movement of the ball along the x-axis.
+     * @param deltaY The movement of the ball along the y-axis.
      * @param ballRadius The radius of the ball.
-     * @return An integer representing the side of the block hit or NO_HIT if no collision occurred.
+     * @param contact The contact that receives the time of impact, normal and face of a hit.
+     * @return The face of the block hit, or NO_HIT if no collision occurs.
      */
-    public int checkHitToBlock(double xBall, double yBall, double xBallPrevious, double yBallPrevious, double ballRadius) {
-        final double Epsilon = 0.00001;
-
-        if (isDestroyed || isAlreadyHit) {
-            System.out.println("NO hit");
+    public int checkHitToBlock(double xBall, double yBall, double deltaX, double deltaY, double ballRadius, Contact contact) {
+        contact.clear();
+        if (isDestroyed) {
             return NO_HIT;
         }
+        return sweep(x, y, xBall, yBall, deltaX, deltaY, ballRadius, contact);
+    }
 
-        double left = Math.min(xBall - ballRadius, xBallPrevious - ballRadius);
-        double right = Math.max(xBall + ballRadius, xBallPrevious + ballRadius);
-        double top = Math.min(yBall - ballRadius, yBallPrevious - ballRadius);
-        double bottom = Math.max(yBall + ballRadius, yBallPrevious + ballRadius);
+    /**
+     * Checks if the ball hits a block at the given position while it moves by the given displacement.
+     * The ball touches the block where its centre enters the block grown by the ball's radius with rounded corners,
+     * so fast balls cannot tunnel through the block. A ball already overlapping the block counts as a hit at time 0
+     * as long as it moves further into the block. Only hits while moving towards the block count.
+     * Works on plain coordinates, so the BlockStore can test blocks without their objects.
+     *
+     * @param blockX The x-coordinate of the block's top-left corner.
+     * @param blockY The y-coordinate of the block's top-left corner.
+     * @param xBall The x-coordinate of the ball at the start of the movement.
+     * @param yBall The y-coordinate of the ball at the start of the movement.
+     * @param deltaX The movement of the ball along the x-axis.
+     * @param deltaY The movement of the ball along the y-axis.
+     * @param ballRadius The radius of the ball.
+     * @param contact The contact that receives the time of impact, normal and face of a hit.
+     * @return The face of the block hit, or NO_HIT if no collision occurs.
+     */
+    static int sweep(double blockX, double blockY, double xBall, double yBall, double deltaX, double deltaY,
+                     double ballRadius, Contact contact) {
+        double blockRight = blockX + layout.getBlockWidth();
+        double blockBottom = blockY + layout.getBlockHeight();
+        contact.clear();
 
-        if (right + Epsilon < x || left - Epsilon > x + width || bottom + Epsilon < y || top - Epsilon > y + height) {
-            return NO_HIT;
+        if (checkOverlap(blockX, blockY, blockRight, blockBottom, xBall, yBall, deltaX, deltaY, ballRadius, contact)) {
+            return contact.getFace();
         }
 
-        if (Math.abs(xBall - x) <= ballRadius + Epsilon && Math.abs(yBall - y) <= ballRadius + Epsilon) {
-            return HIT_TOP_LEFT;
-        } else if (Math.abs(xBall - (x + width)) <= ballRadius + Epsilon && Math.abs(yBall - y) <= ballRadius + Epsilon) {
-            return HIT_TOP_RIGHT;
-        } else if (Math.abs(xBall - x) <= ballRadius + Epsilon && Math.abs(yBall - (y + height)) <= ballRadius + Epsilon) {
-            return HIT_BOTTOM_LEFT;
-        } else if (Math.abs(xBall - (x + width)) <= ballRadius + Epsilon && Math.abs(yBall - (y + height)) <= ballRadius + Epsilon) {
-            return HIT_BOTTOM_RIGHT;
+        double tEnter = 0.0;
+        double tExit = 1.0;
+        double normalX = 0.0;
+        double normalY = 0.0;
+
+        if (deltaX == 0.0) {
+            if (xBall < blockX - ballRadius || xBall > blockRight + ballRadius) {
+                return NO_HIT;
+            }
+        } else {
+            double t1 = (blockX - ballRadius - xBall) / deltaX;
+            double t2 = (blockRight + ballRadius - xBall) / deltaX;
+            double near = Math.min(t1, t2);
+            if (near > tEnter) {
+                tEnter = near;
+                normalX = deltaX > 0 ? -1.0 : 1.0;
+                normalY = 0.0;
+            }
+            tExit = Math.min(tExit, Math.max(t1, t2));
         }
 
-        if (xBall + ballRadius + Epsilon >= x && xBall - ballRadius - Epsilon <= x + width &&
-                yBall + ballRadius + Epsilon >= y && yBall - ballRadius - Epsilon <= y + height) {
-            double dx = Math.min(Math.abs(xBall - x), Math.abs(xBall - (x + width)));
-            double dy = Math.min(Math.abs(yBall - y), Math.abs(yBall - (y + height)));
-
-            if (dx + Epsilon < dy) {
-                if (xBall < x + (double) width / 2) {
-                    return HIT_LEFT;
-                } else {
-                    return HIT_RIGHT;
-                }
-            } else if (dx > dy + Epsilon) {
-                if (yBall < y + (double) height / 2) {
-                    return HIT_TOP;
-                } else {
-                    return HIT_BOTTOM;
-                }
+        if (deltaY == 0.0) {
+            if (yBall < blockY - ballRadius || yBall > blockBottom + ballRadius) {
+                return NO_HIT;
             }
         } else {
-            if (xBallPrevious + ballRadius + Epsilon < x && xBall >= x) {
-                return HIT_LEFT;
-            } else if (xBallPrevious - ballRadius - Epsilon > x + width && xBall <= x + width) {
-                return HIT_RIGHT;
-            } else if (yBallPrevious + ballRadius + Epsilon < y && yBall >= y) {
-                return HIT_TOP;
-            } else if (yBallPrevious - ballRadius - Epsilon > y + height && yBall <= y + height) {
-                return HIT_BOTTOM;
+            double t1 = (blockY - ballRadius - yBall) / deltaY;
+            double t2 = (blockBottom + ballRadius - yBall) / deltaY;
+            double near = Math.min(t1, t2);
+            if (near > tEnter) {
+                tEnter = near;
+                normalX = 0.0;
+                normalY = deltaY > 0 ? -1.0 : 1.0;
             }
+            tExit = Math.min(tExit, Math.max(t1, t2));
         }
 
-        return NO_HIT;
+        if (tEnter > tExit) {
+            return NO_HIT;
+        }
+
+        double xHit = xBall + deltaX * tEnter;
+        double yHit = yBall + deltaY * tEnter;
+        boolean isBesideX = xHit < blockX || xHit > blockRight;
+        boolean isBesideY = yHit < blockY || yHit > blockBottom;
+        if (!isBesideX || !isBesideY) {
+            if (normalX == 0.0 && normalY == 0.0) {
+                return NO_HIT;
+            }
+            contact.set(tEnter, normalX, normalY, faceOf(normalX, normalY));
+            return contact.getFace();
+        }
+
+        double xCorner = xHit < blockX ? blockX : blockRight;
+        double yCorner = yHit < blockY ? blockY : blockBottom;
+        return sweepCorner(xBall, yBall, deltaX, deltaY, ballRadius, xCorner, yCorner, contact);
     }
 
     /**
-     * Decrements the hit count required to destroy the block.
-     * Applicable for blocks that require multiple hits to be destroyed.
+     * Checks if the ball already overlaps a block at the start of the movement and moves further into it.
+     * The normal points from the closest point of the block to the ball's centre,
+     * or out of the nearest side when the centre lies inside the block.
+     *
+     * @param blockX The left edge of the block.
+     * @param blockY The top edge of the block.
+     * @param blockRight The right edge of the block.
+     * @param blockBottom The bottom edge of the block.
+     * @param xBall The x-coordinate of the ball.
+     * @param yBall The y-coordinate of the ball.
+     * @param deltaX The movement of the ball along the x-axis.
+     * @param deltaY The movement of the ball along the y-axis.
+     * @param ballRadius The radius of the ball.
+     * @param contact The contact that receives the hit at time 0.
+     * @return True if the ball overlaps the block and moves into it, false otherwise.
      */
-    public void decrementCount() {
-        if (type == BLOCK_COUNT_BREAKER && hitsToDestroy > 0) {
-            hitsToDestroy--;
-            blockText.setText("" + hitsToDestroy);
+    private static boolean checkOverlap(double blockX, double blockY, double blockRight, double blockBottom,
+                                        double xBall, double yBall, double deltaX, double deltaY, double ballRadius, Contact contact) {
+        double xClosest = Math.max(blockX, Math.min(xBall, blockRight));
+        double yClosest = Math.max(blockY, Math.min(yBall, blockBottom));
+        double distanceX = xBall - xClosest;
+        double distanceY = yBall - yClosest;
+        double distanceSquared = distanceX * distanceX + distanceY * distanceY;
+        if (distanceSquared >= ballRadius * ballRadius) {
+            return false;
+        }
+
+        double normalX;
+        double normalY;
+        if (distanceSquared > 0.0) {
+            double distance = Math.sqrt(distanceSquared);
+            normalX = distanceX / distance;
+            normalY = distanceY / distance;
+        } else {
+            double left = xBall - blockX;
+            double right = blockRight - xBall;
+            double top = yBall - blockY;
+            double bottom = blockBottom - yBall;
+            double nearest = Math.min(Math.min(left, right), Math.min(top, bottom));
+            normalX = nearest == left ? -1.0 : nearest == right ? 1.0 : 0.0;
+            normalY = normalX != 0.0 ? 0.0 : nearest == top ? -1.0 : 1.0;
         }
+
+        if (deltaX * normalX + deltaY * normalY >= 0.0) {
+            return false;
+        }
+        contact.set(0.0, normalX, normalY, faceOf(normalX, normalY));
+        return true;
     }
 
     /**
-     * Checks if a hit to the block can be processed based on the current time and cooldown period.
+     * Sweeps the ball against a rounded corner of a block grown by the ball's radius.
      *
-     * @param currentTime The current time in the game loop.
-     * @return True if the hit can be processed, false otherwise.
+     * @param xBall The x-coordinate of the ball at the start of the movement.
+     * @param yBall The y-coordinate of the ball at the start of the movement.
+     * @param deltaX The movement of the ball along the x-axis.
+     * @param deltaY The movement of the ball along the y-axis.
+     * @param ballRadius The radius of the ball.
+     * @param xCorner The x-coordinate of the corner.
+     * @param yCorner The y-coordinate of the corner.
+     * @param contact The contact that receives the time of impact, normal and face of a hit.
+     * @return The corner face hit, or NO_HIT if the ball passes the corner.
      */
-    public boolean checkAndProcessHit(long currentTime) {
-        if (this.lastHitTime >= currentTime - COOLDOWN_TIME) {
-            return false;
+    private static int sweepCorner(double xBall, double yBall, double deltaX, double deltaY, double ballRadius,
+                                   double xCorner, double yCorner, Contact contact) {
+        double offsetX = xBall - xCorner;
+        double offsetY = yBall - yCorner;
+        double a = deltaX * deltaX + deltaY * deltaY;
+        double b = offsetX * deltaX + offsetY * deltaY;
+        double c = offsetX * offsetX + offsetY * offsetY - ballRadius * ballRadius;
+        double discriminant = b * b - a * c;
+        if (a == 0.0 || discriminant < 0.0) {
+            return NO_HIT;
+        }
+
+        double time = (-b - Math.sqrt(discriminant)) / a;
+        if (time < 0.0 || time > 1.0) {
+            return NO_HIT;
+        }
+
+        double normalX = (offsetX + deltaX * time) / ballRadius;
+        double normalY = (offsetY + deltaY * time) / ballRadius;
+        contact.set(time, normalX, normalY, faceOf(normalX, normalY));
+        return contact.getFace();
+    }
+
+    /**
+     * Maps a contact normal to the face of the block it points out of.
+     *
+     * @param normalX The x-component of the normal.
+     * @param normalY The y-component of the normal.
+     * @return One of the HIT_ codes.
+     */
+    private static int faceOf(double normalX, double normalY) {
+        if (normalY == 0.0) {
+            return normalX < 0 ? HIT_LEFT : HIT_RIGHT;
+        } else if (normalX == 0.0) {
+            return normalY < 0 ? HIT_TOP : HIT_BOTTOM;
+        } else if (normalY < 0) {
+            return normalX < 0 ? HIT_TOP_LEFT : HIT_TOP_RIGHT;
+        } else {
+            return normalX < 0 ? HIT_BOTTOM_LEFT : HIT_BOTTOM_RIGHT;
         }
-        this.lastHitTime = currentTime;
-        return true;
     }
 
     /**
@@ -199,13 +295,32 @@ public class Block implements Serializable {
         return hitsToDestroy;
     }
 
+    /**
+     * Sets the number of hits left to destroy the block, keeping the object in step with the BlockStore.
+     *
+     * @param hitsToDestroy The number of hits left.
+     */
+    void setHitsToDestroy(int hitsToDestroy) {
+        this.hitsToDestroy = hitsToDestroy;
+    }
+
+    /**
+     * Sets the board configuration that block sizes and positions are taken from.
+     * Set by the game model before it builds any board.
+     *
+     * @param config The board configuration of the game.
+     */
+    static void setLayout(BoardConfig config) {
+        layout = config;
+    }
+
     /**
      * Returns the top padding of the block.
      *
      * @return The top padding value.
      */
     public static int getPaddingTop() {
-        return block.paddingTop;
+        return layout.getPaddingTop();
     }
 
     /**
@@ -214,7 +329,7 @@ public class Block implements Serializable {
      * @return The horizontal padding value.
      */
     public static int getPaddingH() {
-        return block.paddingH;
+        return layout.getPaddingH();
     }
 
     /**
@@ -223,7 +338,7 @@ public class Block implements Serializable {
      * @return The height of the block.
      */
     public static int getHeight() {
-        return block.height;
+        return layout.getBlockHeight();
     }
 
     /**
@@ -232,16 +347,6 @@ public class Block implements Serializable {
      * @return The width of the block.
      */
     public static int getWidth() {
-        return block.width;
+        return layout.getBlockWidth();
     }
-
-    /**
-     * Retrieves the view representation of the block.
-     *
-     * @return The BlockView associated with this block.
-     */
-    public BlockView getBlockView() {
-        return blockView;
-    }
-
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package brickGame.Model;
+
+import java.util.Arrays;
+
+/**
+ * Stream of the blocks destroyed during a game step.
+ * Collision handling emits every destruction exactly once, as the index of the block in the BlockStore,
+ * and the game model consumes the stream once at the end of the step, updating the score, spawning bonuses
+ * and notifying the listener for each destroyed block.
+ * Consuming the stream empties it in constant time; the array is kept and only grows, so emitting does not allocate
+ * once the stream has reached the most destructions of a step.
+ */
+public class BlockEventStream {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] blocks = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Emits the destruction of a block.
+     *
+     * @param index The index of the destroyed block in the block store.
+     */
+    public void emit(int index) {
+        if (size == blocks.length) {
+            blocks = Arrays.copyOf(blocks, size * 2);
+        }
+        blocks[size++] = index;
+    }
+
+    /**
+     * Retrieves the number of destructions emitted since the stream was last cleared.
+     *
+     * @return The number of pending destructions.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retrieves a pending destruction, in the order the blocks were destroyed.
+     *
+     * @param position The position in the stream, below size().
+     * @return The index of the destroyed block in the block store.
+     */
+    public int get(int position) {
+        return blocks[position];
+    }
+
+    /**
+     * Empties the stream once its destructions have been consumed.
+     */
+    public void clear() {
+        size = 0;
+    }
+}
@@ -0,0 +1,279 @@
+package brickGame.Model;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Uniform grid index of the blocks on the board, used as the broad phase of ball-to-block collision detection.
+ * The cells match the row and column lattice that Block.setPosition places blocks on, so every cell holds at most one block.
+ * Cells store the index of their block in the BlockStore.
+ * A query returns only the blocks in the cells that a bounding box overlaps,
+ * so the cost of a collision check depends on the size of the ball's swept box instead of the number of blocks.
+ * The index is updated incrementally: blocks are added when a board is built or restored, and removed once destroyed.
+ * The grid at least doubles its rows or columns when it grows, so building a large board copies the cells only a few times.
+ * The grid also counts the blocks in every row and column and keeps masks of the occupied rows and columns.
+ * The first and last occupied row and column bound the live blocks, so the box shrinks as the board is cleared,
+ * and a bounding box that misses the occupied rows or columns is rejected without looking at any cell.
+ */
+public class BlockGrid {
+    private static final double MARGIN = 1.0;
+
+    private int[] cells = new int[0];
+    private int rows = 0;
+    private int columns = 0;
+    private int size = 0;
+    private int[] rowCounts = new int[0];
+    private int[] columnCounts = new int[0];
+    private final BitSet occupiedRows = new BitSet();
+    private final BitSet occupiedColumns = new BitSet();
+    private int firstRow = Integer.MAX_VALUE;
+    private int lastRow = -1;
+    private int firstColumn = Integer.MAX_VALUE;
+    private int lastColumn = -1;
+
+    /**
+     * Adds a block to the cell of its row and column, growing the grid when needed.
+     * Blocks outside the lattice, with a negative row or column, are ignored.
+     *
+     * @param index The index of the block in the store.
+     * @param row The row of the block.
+     * @param column The column of the block.
+     */
+    public void add(int index, int row, int column) {
+        if (row < 0 || column < 0) {
+            return;
+        }
+        if (row >= rows || column >= columns) {
+            grow(row >= rows ? Math.max(row + 1, rows * 2) : rows, column >= columns ? Math.max(column + 1, columns * 2) : columns);
+        }
+        int cell = row * columns + column;
+        if (cells[cell] == 0) {
+            size++;
+            occupy(row, column);
+        }
+        cells[cell] = index + 1;
+    }
+
+    /**
+     * Removes a block from its cell, if it is still the block stored there.
+     *
+     * @param index The index of the block in the store.
+     * @param row The row of the block.
+     * @param column The column of the block.
+     */
+    public void remove(int index, int row, int column) {
+        if (row < 0 || column < 0 || row >= rows || column >= columns) {
+            return;
+        }
+        int cell = row * columns + column;
+        if (cells[cell] == index + 1) {
+            cells[cell] = 0;
+            size--;
+            vacate(row, column);
+        }
+    }
+
+    /**
+     * Counts a new block in its row and column and widens the live bounds to include it.
+     *
+     * @param row The row of the block.
+     * @param column The column of the block.
+     */
+    private void occupy(int row, int column) {
+        if (rowCounts[row]++ == 0) {
+            occupiedRows.set(row);
+        }
+        if (columnCounts[column]++ == 0) {
+            occupiedColumns.set(column);
+        }
+        firstRow = Math.min(firstRow, row);
+        lastRow = Math.max(lastRow, row);
+        firstColumn = Math.min(firstColumn, column);
+        lastColumn = Math.max(lastColumn, column);
+    }
+
+    /**
+     * Uncounts a removed block from its row and column and shrinks the live bounds when its row or column empties.
+     *
+     * @param row The row of the block.
+     * @param column The column of the block.
+     */
+    private void vacate(int row, int column) {
+        if (--rowCounts[row] == 0) {
+            occupiedRows.clear(row);
+            if (row == firstRow || row == lastRow) {
+                firstRow = occupiedRows.isEmpty() ? Integer.MAX_VALUE : occupiedRows.nextSetBit(0);
+                lastRow = occupiedRows.length() - 1;
+            }
+        }
+        if (--columnCounts[column] == 0) {
+            occupiedColumns.clear(column);
+            if (column == firstColumn || column == lastColumn) {
+                firstColumn = occupiedColumns.isEmpty() ? Integer.MAX_VALUE : occupiedColumns.nextSetBit(0);
+                lastColumn = occupiedColumns.length() - 1;
+            }
+        }
+    }
+
+    /**
+     * Removes all blocks from the grid. The cells are kept for the next board.
+     */
+    public void clear() {
+        Arrays.fill(cells, 0);
+        Arrays.fill(rowCounts, 0);
+        Arrays.fill(columnCounts, 0);
+        occupiedRows.clear();
+        occupiedColumns.clear();
+        firstRow = Integer.MAX_VALUE;
+        lastRow = -1;
+        firstColumn = Integer.MAX_VALUE;
+        lastColumn = -1;
+        size = 0;
+    }
+
+    /**
+     * Retrieves the number of blocks in the grid.
+     *
+     * @return The number of indexed blocks.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retrieves the number of cells in the grid, which is the most blocks a query can return.
+     *
+     * @return The number of cells.
+     */
+    public int getCellCount() {
+        return cells.length;
+    }
+
+    /**
+     * Checks if a bounding box reaches into occupied space: it must overlap the live bounds of the blocks,
+     * and cover at least one occupied row and one occupied column. The box is widened by the same margin as queries,
+     * so a box rejected here would not find any block in a query either.
+     *
+     * @param left The left edge of the box.
+     * @param top The top edge of the box.
+     * @param right The right edge of the box.
+     * @param bottom The bottom edge of the box.
+     * @return True if the box may overlap a block, false if it certainly does not.
+     */
+    public boolean overlapsOccupied(double left, double top, double right, double bottom) {
+        int fromColumn = Math.max(firstColumn, columnOf(left - MARGIN));
+        int toColumn = Math.min(lastColumn, columnOf(right + MARGIN));
+        int fromRow = Math.max(firstRow, rowOf(top - MARGIN));
+        int toRow = Math.min(lastRow, rowOf(bottom + MARGIN));
+        if (fromColumn > toColumn || fromRow > toRow) {
+            return false;
+        }
+        int row = occupiedRows.nextSetBit(fromRow);
+        int column = occupiedColumns.nextSetBit(fromColumn);
+        return row >= 0 && row <= toRow && column >= 0 && column <= toColumn;
+    }
+
+    /**
+     * Retrieves the first row holding a block.
+     *
+     * @return The top row of the live bounds, or Integer.MAX_VALUE if the grid is empty.
+     */
+    public int getFirstRow() {
+        return firstRow;
+    }
+
+    /**
+     * Retrieves the last row holding a block.
+     *
+     * @return The bottom row of the live bounds, or -1 if the grid is empty.
+     */
+    public int getLastRow() {
+        return lastRow;
+    }
+
+    /**
+     * Retrieves the first column holding a block.
+     *
+     * @return The left column of the live bounds, or Integer.MAX_VALUE if the grid is empty.
+     */
+    public int getFirstColumn() {
+        return firstColumn;
+    }
+
+    /**
+     * Retrieves the last column holding a block.
+     *
+     * @return The right column of the live bounds, or -1 if the grid is empty.
+     */
+    public int getLastColumn() {
+        return lastColumn;
+    }
+
+    /**
+     * Collects the indexes of the blocks in the cells that a bounding box overlaps.
+     * The box is widened by a small margin, so blocks that only touch its edges are included as well.
+     * Blocks are collected column by column, in the order the board is built.
+     *
+     * @param left The left edge of the box.
+     * @param top The top edge of the box.
+     * @param right The right edge of the box.
+     * @param bottom The bottom edge of the box.
+     * @param result The array the block indexes are written to, holding at least getCellCount() entries.
+     * @return The number of block indexes written.
+     */
+    public int query(double left, double top, double right, double bottom, int[] result) {
+        int firstColumn = Math.max(0, columnOf(left - MARGIN));
+        int lastColumn = Math.min(columns - 1, columnOf(right + MARGIN));
+        int firstRow = Math.max(0, rowOf(top - MARGIN));
+        int lastRow = Math.min(rows - 1, rowOf(bottom + MARGIN));
+
+        int count = 0;
+        for (int column = firstColumn; column <= lastColumn; column++) {
+            for (int row = firstRow; row <= lastRow; row++) {
+                int entry = cells[row * columns + column];
+                if (entry != 0) {
+                    result[count++] = entry - 1;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Computes the column of the cell containing an x-coordinate.
+     *
+     * @param x The x-coordinate.
+     * @return The column index, which may lie outside the grid.
+     */
+    private static int columnOf(double x) {
+        return (int) Math.floor((x - Block.getPaddingH()) / Block.getWidth());
+    }
+
+    /**
+     * Computes the row of the cell containing a y-coordinate.
+     *
+     * @param y The y-coordinate.
+     * @return The row index, which may lie outside the grid.
+     */
+    private static int rowOf(double y) {
+        return (int) Math.floor((y - Block.getPaddingTop()) / Block.getHeight());
+    }
+
+    /**
+     * Grows the grid to the given number of rows and columns, keeping every block in its cell.
+     *
+     * @param newRows The new number of rows.
+     * @param newColumns The new number of columns.
+     */
+    private void grow(int newRows, int newColumns) {
+        int[] grown = new int[newRows * newColumns];
+        for (int row = 0; row < rows; row++) {
+            System.arraycopy(cells, row * columns, grown, row * newColumns, columns);
+        }
+        cells = grown;
+        rowCounts = Arrays.copyOf(rowCounts, newRows);
+        columnCounts = Arrays.copyOf(columnCounts, newColumns);
+        rows = newRows;
+        columns = newColumns;
+    }
+}
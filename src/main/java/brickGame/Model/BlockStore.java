@@ -0,0 +1,504 @@
+package brickGame.Model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Structure-of-arrays store of the blocks on the board.
+ * The state that collision detection, saving and level completion read is kept in primitive arrays indexed by block,
+ * with the alive flags in a BitSet, so those loops scan contiguous memory instead of chasing Block objects.
+ * A Block object is only built when a block has to be shown or reported to a listener, and is then kept for that block,
+ * so views can keep using it as the key of its node. Boards built as Block objects are adopted as they are.
+ * The store also keeps the BlockGrid that finds the blocks around the ball.
+ * Instead of the grid, an OverlapKernel can scan the block positions directly, such as the VectorOverlapKernel
+ * that tests many blocks per instruction.
+ */
+public class BlockStore {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] rows = new int[INITIAL_CAPACITY];
+    private int[] columns = new int[INITIAL_CAPACITY];
+    private int[] xs = new int[INITIAL_CAPACITY];
+    private int[] ys = new int[INITIAL_CAPACITY];
+    private int[] types = new int[INITIAL_CAPACITY];
+    private int[] hitsLeft = new int[INITIAL_CAPACITY];
+    private long[] lastHitTimes = new long[INITIAL_CAPACITY];
+    private Block[] objects = new Block[INITIAL_CAPACITY];
+    private final BitSet alive = new BitSet();
+    private BitSet hitThisStep = new BitSet(INITIAL_CAPACITY);
+    private final BlockGrid grid = new BlockGrid();
+    private int[] candidates = new int[0];
+    private OverlapKernel overlapKernel = null;
+    private int size = 0;
+    private long addCount = 0;
+
+    /**
+     * Adds a block from its Block object, which is kept as the block's object view.
+     *
+     * @param block The block to add.
+     * @return The index of the block in the store.
+     */
+    public int add(Block block) {
+        int index = add(block.row, block.column, block.type, block.getHitsToDestroy());
+        objects[index] = block;
+        if (block.isDestroyed) {
+            alive.clear(index);
+            grid.remove(index, block.row, block.column);
+        }
+        return index;
+    }
+
+    /**
+     * Adds a block without building its Block object.
+     *
+     * @param row The row of the block.
+     * @param column The column of the block.
+     * @param type The type of the block.
+     * @param hitsToDestroy The number of hits left to destroy a count breaker block.
+     * @return The index of the block in the store.
+     */
+    public int add(int row, int column, int type, int hitsToDestroy) {
+        if (size == rows.length) {
+            grow(size * 2);
+        }
+        int index = size++;
+        rows[index] = row;
+        columns[index] = column;
+        xs[index] = (column * Block.getWidth()) + Block.getPaddingH();
+        ys[index] = (row * Block.getHeight()) + Block.getPaddingTop();
+        types[index] = type;
+        hitsLeft[index] = BlockType.of(type).isCountingHits() ? hitsToDestroy : 0;
+        lastHitTimes[index] = -1;
+        objects[index] = null;
+        alive.set(index);
+        addCount++;
+        grid.add(index, row, column);
+        if (candidates.length < Math.max(grid.getCellCount(), rows.length)) {
+            candidates = new int[Math.max(grid.getCellCount(), rows.length)];
+        }
+        return index;
+    }
+
+    /**
+     * Removes all blocks from the store.
+     */
+    public void clear() {
+        Arrays.fill(objects, 0, size, null);
+        alive.clear();
+        hitThisStep.clear();
+        grid.clear();
+        size = 0;
+    }
+
+    /**
+     * Moves every alive block down by one row and compacts the store.
+     * Destroyed blocks and blocks moved beyond the last row are dropped, and their Block objects, if any were built,
+     * are collected so that their views can be released. The remaining blocks keep their order and Block objects,
+     * but get new indexes, so no destructions may be pending. The grid is rebuilt in place without allocating.
+     *
+     * @param lastRow The last row a block may occupy after the move.
+     * @param released The list that the Block objects of dropped blocks are added to.
+     */
+    public void shiftRowsDown(int lastRow, List<Block> released) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            Block object = objects[i];
+            int row = rows[i] + 1;
+            if (!alive.get(i) || row > lastRow) {
+                if (object != null) {
+                    released.add(object);
+                }
+                continue;
+            }
+            rows[kept] = row;
+            columns[kept] = columns[i];
+            xs[kept] = xs[i];
+            ys[kept] = (row * Block.getHeight()) + Block.getPaddingTop();
+            types[kept] = types[i];
+            hitsLeft[kept] = hitsLeft[i];
+            lastHitTimes[kept] = lastHitTimes[i];
+            objects[kept] = object;
+            if (object != null) {
+                object.moveToRow(row);
+            }
+            kept++;
+        }
+        Arrays.fill(objects, kept, size, null);
+        size = kept;
+        alive.clear();
+        alive.set(0, kept);
+        hitThisStep.clear();
+        grid.clear();
+        for (int i = 0; i < kept; i++) {
+            grid.add(i, rows[i], columns[i]);
+        }
+        addCount++;
+    }
+
+    /**
+     * Retrieves the number of blocks added since the store was last cleared, destroyed ones included.
+     * Valid indexes run from 0 to size() - 1.
+     *
+     * @return The number of block slots in use.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retrieves the number of blocks not destroyed yet.
+     *
+     * @return The number of alive blocks.
+     */
+    public int getAliveCount() {
+        return alive.cardinality();
+    }
+
+    /**
+     * Retrieves the index of the next alive block, for loops of the form
+     * {@code for (int i = store.nextAlive(0); i >= 0; i = store.nextAlive(i + 1))}.
+     *
+     * @param fromIndex The index to start searching from.
+     * @return The index of the next alive block, or -1 if there is none.
+     */
+    public int nextAlive(int fromIndex) {
+        return fromIndex >= size ? -1 : alive.nextSetBit(fromIndex);
+    }
+
+    /**
+     * Checks if a block has not been destroyed yet.
+     *
+     * @param index The index of the block.
+     * @return True if the block is alive, false otherwise.
+     */
+    public boolean isAlive(int index) {
+        return alive.get(index);
+    }
+
+    /**
+     * Retrieves the row of a block.
+     *
+     * @param index The index of the block.
+     * @return The row of the block.
+     */
+    public int getRow(int index) {
+        return rows[index];
+    }
+
+    /**
+     * Retrieves the column of a block.
+     *
+     * @param index The index of the block.
+     * @return The column of the block.
+     */
+    public int getColumn(int index) {
+        return columns[index];
+    }
+
+    /**
+     * Retrieves the type of a block.
+     *
+     * @param index The index of the block.
+     * @return The type of the block.
+     */
+    public int getType(int index) {
+        return types[index];
+    }
+
+    /**
+     * Retrieves the number of hits left to destroy a count breaker block.
+     *
+     * @param index The index of the block.
+     * @return The hits left, or 0 for other block types.
+     */
+    public int getHitsLeft(int index) {
+        return hitsLeft[index];
+    }
+
+    /**
+     * Decrements the number of hits left to destroy a count breaker block.
+     *
+     * @param index The index of the block.
+     * @return The hits left after the decrement.
+     */
+    public int decrementHits(int index) {
+        if (hitsLeft[index] > 0) {
+            hitsLeft[index]--;
+        }
+        return hitsLeft[index];
+    }
+
+    /**
+     * Marks a block as destroyed and removes it from the grid.
+     *
+     * @param index The index of the block.
+     */
+    public void destroy(int index) {
+        alive.clear(index);
+        grid.remove(index, rows[index], columns[index]);
+    }
+
+    /**
+     * Checks if a hit to a block can be processed based on the current time and the hit cooldown,
+     * and records the hit time if it can.
+     *
+     * @param index The index of the block.
+     * @param currentTime The current game time in milliseconds.
+     * @return True if the hit can be processed, false otherwise.
+     */
+    public boolean checkAndProcessHit(int index, long currentTime) {
+        if (lastHitTimes[index] >= currentTime - Block.COOLDOWN_TIME) {
+            return false;
+        }
+        lastHitTimes[index] = currentTime;
+        return true;
+    }
+
+    /**
+     * Marks a block as hit in the current step, so it is not swept again until clearHitsThisStep.
+     *
+     * @param index The index of the block.
+     */
+    public void markHitThisStep(int index) {
+        hitThisStep.set(index);
+    }
+
+    /**
+     * Clears the blocks hit in the current step.
+     */
+    public void clearHitsThisStep() {
+        hitThisStep.clear();
+    }
+
+    /**
+     * Collects the alive blocks in the grid cells that a bounding box overlaps,
+     * or with an overlap kernel set, the alive blocks whose box overlaps the bounding box.
+     * A box outside the live bounds of the blocks, or missing every occupied row or column, returns no candidates
+     * without querying the grid or running the kernel, so balls away from the remaining blocks cost no collision work.
+     * The indexes are read back with getCandidate. The candidate array is sized as blocks are added,
+     * so queries do not allocate.
+     *
+     * @param left The left edge of the box.
+     * @param top The top edge of the box.
+     * @param right The right edge of the box.
+     * @param bottom The bottom edge of the box.
+     * @return The number of candidate blocks.
+     */
+    public int queryCandidates(double left, double top, double right, double bottom) {
+        if (overlapKernel == null) {
+            return grid.overlapsOccupied(left, top, right, bottom) ? grid.query(left, top, right, bottom, candidates) : 0;
+        }
+        if (!grid.overlapsOccupied(left - 1, top - 1, right + 1, bottom + 1)) {
+            return 0;
+        }
+        int found = overlapKernel.collect(xs, ys, size, Block.getWidth(), Block.getHeight(),
+                (int) Math.floor(left) - 1, (int) Math.floor(top) - 1,
+                (int) Math.ceil(right) + 1, (int) Math.ceil(bottom) + 1, candidates);
+        int count = 0;
+        for (int i = 0; i < found; i++) {
+            if (alive.get(candidates[i])) {
+                candidates[count++] = candidates[i];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Computes how close the nearest alive block comes to a point, as the larger of the horizontal and vertical gaps
+     * between the point and the block's box. A bounding box around the point with a smaller half size overlaps no block.
+     * Only the blocks within the given range are looked at, through queryCandidates, so the candidates are overwritten.
+     *
+     * @param x The x-coordinate of the point.
+     * @param y The y-coordinate of the point.
+     * @param range The largest clearance of interest.
+     * @return The gap to the nearest alive block, or the range if no block lies within it.
+     */
+    public double findClearance(double x, double y, double range) {
+        int count = queryCandidates(x - range, y - range, x + range, y + range);
+        int width = Block.getWidth();
+        int height = Block.getHeight();
+        double clearance = range;
+        for (int i = 0; i < count; i++) {
+            int index = candidates[i];
+            double gapX = Math.max(Math.max(xs[index] - x, x - (xs[index] + width)), 0);
+            double gapY = Math.max(Math.max(ys[index] - y, y - (ys[index] + height)), 0);
+            clearance = Math.min(clearance, Math.max(gapX, gapY));
+        }
+        return clearance;
+    }
+
+    /**
+     * Retrieves how many blocks have been added to the store in total, counting across clears and row shifts.
+     * The count changes whenever blocks appear on the board or move, which invalidates predictions of when the ball hits one.
+     *
+     * @return The number of blocks ever added, plus one per row shift.
+     */
+    public long getAddCount() {
+        return addCount;
+    }
+
+    /**
+     * Retrieves the block grid, which also keeps the live bounds and the occupied rows and columns of the board.
+     *
+     * @return The BlockGrid of the store.
+     */
+    public BlockGrid getGrid() {
+        return grid;
+    }
+
+    /**
+     * Sets the kernel that finds the candidate blocks by scanning all block positions, instead of the block grid.
+     *
+     * @param overlapKernel The kernel to scan the blocks with, or null to query the block grid.
+     */
+    public void setOverlapKernel(OverlapKernel overlapKernel) {
+        this.overlapKernel = overlapKernel;
+    }
+
+    /**
+     * Retrieves the kernel that finds the candidate blocks.
+     *
+     * @return The overlap kernel, or null when the block grid is queried.
+     */
+    public OverlapKernel getOverlapKernel() {
+        return overlapKernel;
+    }
+
+    /**
+     * Creates an overlap kernel, preferring the Vector API kernel when asked for and available.
+     * The vector kernel needs the jdk.incubator.vector module, added with --add-modules jdk.incubator.vector;
+     * without it, or when it fails to load, the scalar kernel is returned.
+     *
+     * @param preferVector True to use the vector kernel when the module is available, false for the scalar kernel.
+     * @return The created overlap kernel.
+     */
+    public static OverlapKernel createOverlapKernel(boolean preferVector) {
+        return OverlapKernelLoader.create(preferVector);
+    }
+
+    /**
+     * Retrieves a block found by the last queryCandidates.
+     *
+     * @param candidate The position among the candidates, below the count returned by the query.
+     * @return The index of the block.
+     */
+    public int getCandidate(int candidate) {
+        return candidates[candidate];
+    }
+
+    /**
+     * Sweeps the ball against an alive block not hit yet in the current step.
+     *
+     * @param index The index of the block.
+     * @param xBall The x-coordinate of the ball at the start of the movement.
+     * @param yBall The y-coordinate of the ball at the start of the movement.
+     * @param deltaX The movement of the ball along the x-axis.
+     * @param deltaY The movement of the ball along the y-axis.
+     * @param ballRadius The radius of the ball.
+     * @param contact The contact that receives the time of impact, normal and face of a hit.
+     * @return The face of the block hit, or Block.NO_HIT if no collision occurs.
+     */
+    public int sweep(int index, double xBall, double yBall, double deltaX, double deltaY, double ballRadius, Contact contact) {
+        if (!alive.get(index) || hitThisStep.get(index)) {
+            contact.clear();
+            return Block.NO_HIT;
+        }
+        return Block.sweep(xs[index], ys[index], xBall, yBall, deltaX, deltaY, ballRadius, contact);
+    }
+
+    /**
+     * Retrieves the object view of a block, building it on first use and bringing its hits and destroyed flag up to date.
+     *
+     * @param index The index of the block.
+     * @return The Block object of the block.
+     */
+    public Block getBlock(int index) {
+        Block block = objects[index];
+        if (block == null) {
+            block = new Block(rows[index], columns[index], types[index], hitsLeft[index]);
+            objects[index] = block;
+        }
+        block.setHitsToDestroy(hitsLeft[index]);
+        block.isDestroyed = !alive.get(index);
+        return block;
+    }
+
+    /**
+     * Builds a list of the object views of the alive blocks, for rendering.
+     *
+     * @return The alive blocks.
+     */
+    public List<Block> getAliveBlocks() {
+        List<Block> blocks = new ArrayList<>(getAliveCount());
+        for (int i = nextAlive(0); i >= 0; i = nextAlive(i + 1)) {
+            blocks.add(getBlock(i));
+        }
+        return blocks;
+    }
+
+    /**
+     * Grows the arrays to a new capacity.
+     *
+     * @param capacity The new capacity.
+     */
+    private void grow(int capacity) {
+        rows = Arrays.copyOf(rows, capacity);
+        columns = Arrays.copyOf(columns, capacity);
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        types = Arrays.copyOf(types, capacity);
+        hitsLeft = Arrays.copyOf(hitsLeft, capacity);
+        lastHitTimes = Arrays.copyOf(lastHitTimes, capacity);
+        objects = Arrays.copyOf(objects, capacity);
+        hitThisStep = new BitSet(capacity);
+    }
+
+    /**
+     * The OverlapKernel interface implemented by the kernels that scan the block positions for the blocks
+     * overlapping a bounding box, as a broad phase that works on the store's primitive arrays.
+     * A block's box spans from its position to its position plus the block width and height, edges included.
+     * Kernels report destroyed blocks as well; the store filters them out.
+     */
+    public interface OverlapKernel {
+        int collect(int[] xs, int[] ys, int count, int width, int height,
+                    int left, int top, int right, int bottom, int[] result);
+
+        String getName();
+    }
+
+    /**
+     * Loads the overlap kernels. Kept out of the store itself, whose methods run every step:
+     * when HotSpot compiles a method it interns all string literals of the method's class on the calling thread,
+     * so the messages and names here would otherwise be allocated in the middle of a game that never loads a kernel.
+     */
+    private static final class OverlapKernelLoader {
+        private static final Logger logger = Logger.getLogger(BlockStore.class.getName());
+        private static final String VECTOR_MODULE = "jdk.incubator.vector";
+        private static final String VECTOR_KERNEL_CLASS = "brickGame.Model.VectorOverlapKernel";
+
+        /**
+         * Creates an overlap kernel, preferring the Vector API kernel when asked for and available.
+         *
+         * @param preferVector True to use the vector kernel when the module is available, false for the scalar kernel.
+         * @return The created overlap kernel.
+         */
+        private static OverlapKernel create(boolean preferVector) {
+            if (preferVector) {
+                if (ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+                    try {
+                        return (OverlapKernel) Class.forName(VECTOR_KERNEL_CLASS).getDeclaredConstructor().newInstance();
+                    } catch (ReflectiveOperationException | LinkageError e) {
+                        logger.log(Level.WARNING, "Vector overlap kernel failed to load, using the scalar kernel", e);
+                    }
+                } else {
+                    logger.log(Level.INFO, "Module {0} is not available, using the scalar overlap kernel", VECTOR_MODULE);
+                }
+            }
+            return new ScalarOverlapKernel();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package brickGame.Model;
+
+/**
+ * The shared description of every kind of block: its textures, how a hit affects it, its score,
+ * the effect of destroying it and the bonus it drops. There is one immutable instance per type,
+ * so a block only keeps its position and state, and the game, the controller and the views look the behaviour
+ * of a block up in this table by its type id instead of comparing the id against every type in turn.
+ * Adding a type means adding a constant here, with the type id used on boards and in save files.
+ */
+public enum BlockType {
+    NORMAL(Block.BLOCK_NORMAL, HitRule.BREAKS, 1, BlockType::noEffect, null,
+            "brick1.jpg", "brick2.jpg", "brick3.jpg"),
+    CHOCO(Block.BLOCK_CHOCO, HitRule.BREAKS, 1, BlockType::noEffect, GameModel::createChoco,
+            "choco.jpg"),
+    STAR(Block.BLOCK_STAR, HitRule.BREAKS, 1, model -> {
+        model.setGoldTime(model.getTime());
+        model.setGoldStatus(true);
+    }, null, "star.jpg"),
+    HEART(Block.BLOCK_HEART, HitRule.BREAKS, 1, model -> model.setHeart(model.getHeart() + 1), null,
+            "heart.jpg"),
+    FREEZE(Block.BLOCK_FREEZE, HitRule.BREAKS, 1, model -> {
+        model.setFreezeTime(model.getTime());
+        model.setIsFreezeStatus(true);
+    }, null, "freeze.jpg"),
+    MYSTERY(Block.BLOCK_MYSTERY, HitRule.BREAKS, 1, BlockType::noEffect, GameModel::createMystery,
+            "mystery.jpg"),
+    WALL(Block.BLOCK_WALL, HitRule.UNBREAKABLE, 0, BlockType::noEffect, null,
+            "bedrock.jpg"),
+    GHOST(Block.Block_GHOST, HitRule.BREAKS, 1, model -> {
+        model.setGhostTime(model.getTime());
+        model.setGhostStatus(true);
+    }, null, "ghost.jpg"),
+    COUNT_BREAKER(Block.BLOCK_COUNT_BREAKER, HitRule.COUNTS_HITS, 1, BlockType::noEffect, null,
+            "countBreaker.jpeg");
+
+    private static final int FIRST_ID = Block.BLOCK_NORMAL;
+    private static final BlockType[] BY_ID = new BlockType[values().length];
+
+    static {
+        for (BlockType blockType : values()) {
+            BY_ID[blockType.id - FIRST_ID] = blockType;
+        }
+    }
+
+    private final int id;
+    private final HitRule hitRule;
+    private final int score;
+    private final Effect effect;
+    private final BonusSpawner bonusSpawner;
+    private final String[] textures;
+
+    /**
+     * Constructs the description of a block type.
+     *
+     * @param id The type id of the blocks on boards and in save files.
+     * @param hitRule Decides whether a hit destroys a block of this type.
+     * @param score The score for destroying a block of this type.
+     * @param effect The effect on the game of destroying a block of this type.
+     * @param bonusSpawner Creates the bonus dropped by a destroyed block of this type, or null if it drops none.
+     * @param textures The image files of the type, varied by the position of the block when there are several.
+     */
+    BlockType(int id, HitRule hitRule, int score, Effect effect, BonusSpawner bonusSpawner, String... textures) {
+        this.id = id;
+        this.hitRule = hitRule;
+        this.score = score;
+        this.effect = effect;
+        this.bonusSpawner = bonusSpawner;
+        this.textures = textures;
+    }
+
+    /**
+     * Looks up the description of a type id.
+     *
+     * @param id The type id of a block.
+     * @return The block type with that id.
+     */
+    public static BlockType of(int id) {
+        return BY_ID[id - FIRST_ID];
+    }
+
+    /**
+     * Retrieves the type id of the blocks on boards and in save files.
+     *
+     * @return The type id.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Checks if blocks of this type need a number of hits before they break, and show how many are left.
+     *
+     * @return True for count breaker blocks, false otherwise.
+     */
+    public boolean isCountingHits() {
+        return hitRule == HitRule.COUNTS_HITS;
+    }
+
+    /**
+     * Applies a hit to a block of this type.
+     *
+     * @param blockStore The block store holding the block.
+     * @param index The index of the block.
+     * @return True if the hit destroys the block, false otherwise.
+     */
+    boolean isDestroyedByHit(BlockStore blockStore, int index) {
+        return hitRule.isDestroyedByHit(blockStore, index);
+    }
+
+    /**
+     * Retrieves the score for destroying a block of this type.
+     *
+     * @return The score of the type.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Applies the effect on the game of destroying a block of this type, such as gold status or an extra heart.
+     *
+     * @param gameModel The game the block was destroyed in.
+     */
+    void applyEffect(GameModel gameModel) {
+        effect.apply(gameModel);
+    }
+
+    /**
+     * Creates the bonus dropped by a destroyed block of this type.
+     *
+     * @param gameModel The game the block was destroyed in.
+     * @param block The destroyed block.
+     * @return The new bonus, or null if blocks of this type drop none.
+     */
+    Bonus spawnBonus(GameModel gameModel, Block block) {
+        return bonusSpawner != null ? bonusSpawner.spawn(gameModel, block) : null;
+    }
+
+    /**
+     * Selects the image file of a block of this type. Types with several images vary them by the position of the block,
+     * so the same board always looks the same.
+     *
+     * @param row The row of the block.
+     * @param column The column of the block.
+     * @return The file name of the image.
+     */
+    public String getTexture(int row, int column) {
+        return textures[Math.floorMod(row * 2 + column, textures.length)];
+    }
+
+    /**
+     * The effect of types whose destruction does not change the game beyond the score.
+     *
+     * @param gameModel The game the block was destroyed in.
+     */
+    private static void noEffect(GameModel gameModel) {
+    }
+
+    /**
+     * Decides whether a hit destroys a block.
+     */
+    private interface HitRule {
+        HitRule BREAKS = (blockStore, index) -> true;
+        HitRule COUNTS_HITS = (blockStore, index) -> blockStore.decrementHits(index) == 0;
+        HitRule UNBREAKABLE = (blockStore, index) -> false;
+
+        boolean isDestroyedByHit(BlockStore blockStore, int index);
+    }
+
+    /**
+     * Changes the game when a block is destroyed.
+     */
+    private interface Effect {
+        void apply(GameModel gameModel);
+    }
+
+    /**
+     * Creates the bonus a destroyed block drops.
+     */
+    private interface BonusSpawner {
+        Bonus spawn(GameModel gameModel, Block block);
+    }
+}
@@ -0,0 +1,157 @@
+package brickGame.Model;
+
+/**
+ * Immutable dimensions of a game: the size of the scene, the number of block columns and rows on a board,
+ * and the size of a block cell with the padding around the board.
+ * The default configuration is the original 500 by 700 scene with four columns and one more row than the level number.
+ * Larger configurations derive the scene size from the board, so boards of tens of thousands of blocks keep
+ * a play area between the blocks and the paddle.
+ */
+public class BoardConfig {
+    private static final int PLAY_AREA_HEIGHT = 400;
+    private static final int PADDLE_BOTTOM_OFFSET = 60;
+    public static final BoardConfig DEFAULT = new BoardConfig(500, 700, 4, 0, 100, 30, 60, 50);
+
+    private final int sceneWidth;
+    private final int sceneHeight;
+    private final int columns;
+    private final int rows;
+    private final int blockWidth;
+    private final int blockHeight;
+    private final int paddingTop;
+    private final int paddingH;
+
+    /**
+     * Constructs a board configuration with every dimension given.
+     *
+     * @param sceneWidth The width of the scene.
+     * @param sceneHeight The height of the scene.
+     * @param columns The number of block columns on a standard board.
+     * @param rows The number of block rows on a standard board, or 0 for one more row than the level number.
+     * @param blockWidth The width of a block cell.
+     * @param blockHeight The height of a block cell.
+     * @param paddingTop The space above the first row of blocks.
+     * @param paddingH The space left of the first column of blocks.
+     */
+    public BoardConfig(int sceneWidth, int sceneHeight, int columns, int rows,
+                       int blockWidth, int blockHeight, int paddingTop, int paddingH) {
+        this.sceneWidth = sceneWidth;
+        this.sceneHeight = sceneHeight;
+        this.columns = columns;
+        this.rows = rows;
+        this.blockWidth = blockWidth;
+        this.blockHeight = blockHeight;
+        this.paddingTop = paddingTop;
+        this.paddingH = paddingH;
+    }
+
+    /**
+     * Creates a configuration for a board of the given size, with a scene just wide enough for the columns
+     * and tall enough for the rows plus the play area above the paddle.
+     * The padding is half a block at the sides and two rows at the top, as in the default board.
+     *
+     * @param columns The number of block columns.
+     * @param rows The number of block rows, or 0 for one more row than the level number.
+     * @param blockWidth The width of a block cell.
+     * @param blockHeight The height of a block cell.
+     * @return The board configuration.
+     */
+    public static BoardConfig forBoard(int columns, int rows, int blockWidth, int blockHeight) {
+        int paddingH = blockWidth / 2;
+        int paddingTop = blockHeight * 2;
+        int sceneWidth = Math.max(DEFAULT.sceneWidth, columns * blockWidth + 2 * paddingH);
+        int sceneHeight = Math.max(DEFAULT.sceneHeight, paddingTop + rows * blockHeight + PLAY_AREA_HEIGHT);
+        return new BoardConfig(sceneWidth, sceneHeight, columns, rows, blockWidth, blockHeight, paddingTop, paddingH);
+    }
+
+    /**
+     * Computes the number of block rows on the standard board of a level.
+     *
+     * @param level The level.
+     * @return The configured number of rows, or one more than the level number if none is configured.
+     */
+    public int getRowsForLevel(int level) {
+        return rows > 0 ? rows : level + 1;
+    }
+
+    /**
+     * Computes where the paddle stands, a fixed distance above the bottom of the scene.
+     *
+     * @return The y-coordinate of the paddle.
+     */
+    public int getPaddleY() {
+        return sceneHeight - PADDLE_BOTTOM_OFFSET;
+    }
+
+    /**
+     * Retrieves the width of the scene.
+     *
+     * @return The width of the scene.
+     */
+    public int getSceneWidth() {
+        return sceneWidth;
+    }
+
+    /**
+     * Retrieves the height of the scene.
+     *
+     * @return The height of the scene.
+     */
+    public int getSceneHeight() {
+        return sceneHeight;
+    }
+
+    /**
+     * Retrieves the number of block columns on a standard board.
+     *
+     * @return The number of columns.
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Retrieves the configured number of block rows on a standard board.
+     *
+     * @return The number of rows, or 0 if it follows the level number.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Retrieves the width of a block cell.
+     *
+     * @return The width of a block.
+     */
+    public int getBlockWidth() {
+        return blockWidth;
+    }
+
+    /**
+     * Retrieves the height of a block cell.
+     *
+     * @return The height of a block.
+     */
+    public int getBlockHeight() {
+        return blockHeight;
+    }
+
+    /**
+     * Retrieves the space above the first row of blocks.
+     *
+     * @return The top padding.
+     */
+    public int getPaddingTop() {
+        return paddingTop;
+    }
+
+    /**
+     * Retrieves the space left of the first column of blocks.
+     *
+     * @return The horizontal padding.
+     */
+    public int getPaddingH() {
+        return paddingH;
+    }
+}
@@ -1,25 +1,19 @@
 package brickGame.Model;
 
-import javafx.scene.image.Image;
-import javafx.scene.paint.ImagePattern;
-import javafx.scene.paint.Paint;
-import javafx.scene.shape.Rectangle;
-
 import java.io.Serializable;
-import java.util.Random;
 
 /**
  * Represents a bonus item in the brick game.
- * This class manages the properties of a bonus item, including its position, type, appearance, and state (taken or not).
+ * This class manages the properties of a bonus item, including its position, type, and state (taken or not).
+ * Its appearance is drawn separately by the view.
  */
 public class Bonus implements Serializable {
-    private Rectangle bonusRectangle;
     private double x;
     private double y;
+    private transient double previousY;
     long timeCreated;
     private boolean taken = false;
     private final int type;
-    Paint imagePattern;
 
     /**
      * Constructs a new Bonus object at a specific position based on the row and column, with a specified type.
@@ -31,56 +25,9 @@ public class Bonus implements Serializable {
     public Bonus(int row, int column, int type) {
         x = (column * (Block.getWidth())) + Block.getPaddingH() + ((double) Block.getWidth() / 2) - 15;
         y = (row * (Block.getHeight())) + Block.getPaddingTop() + ((double) Block.getHeight() / 2) - 15;
+        previousY = y;
 
         this.type = type;
-
-        draw();
-    }
-
-    /**
-     * Initializes and draws the bonus item on the screen.
-     * Sets up the graphical representation of the bonus based on its type.
-     */
-    private void draw() {
-        bonusRectangle = new Rectangle();
-        bonusRectangle.setWidth(30);
-        bonusRectangle.setHeight(30);
-        bonusRectangle.setX(x);
-        bonusRectangle.setY(y);
-
-        if (type == Block.BLOCK_CHOCO) {
-            fillChocoPattern();
-        } else if (type == Block.BLOCK_MYSTERY) {
-            fillMysteryPattern();
-        }
-
-        bonusRectangle.setFill(imagePattern);
-    }
-    /**
-     * Sets the pattern for a choco bonus type.
-     * Chooses and applies an image pattern for the choco bonus using random.
-     */
-    private void fillChocoPattern() {
-        String url = (new Random().nextInt(20) % 2 == 0) ? "bonus1.png" : "bonus2.png";
-        imagePattern = new ImagePattern(new Image(url));
-    }
-
-    /**
-     * Sets the pattern for a mystery bonus type.
-     * Applies a specific image pattern for the mystery bonus.
-     */
-    private void fillMysteryPattern() {
-        String url = "mysteryBonus.jpg";
-        imagePattern = new ImagePattern(new Image(url));
-    }
-
-    /**
-     * Retrieves the rectangle shape representing the bonus item.
-     *
-     * @return The Rectangle object representing the bonus.
-     */
-    public Rectangle getBonus() {
-        return bonusRectangle;
     }
 
     /**
@@ -101,6 +48,15 @@ public class Bonus implements Serializable {
         return y;
     }
 
+    /**
+     * Gets the y-coordinate of the bonus item before its last update.
+     *
+     * @return The previous y-coordinate.
+     */
+    public double getPreviousY() {
+        return previousY;
+    }
+
     /**
      * Retrieves the creation time of the bonus item.
      *
@@ -135,6 +91,7 @@ public class Bonus implements Serializable {
      * @param currentTime The current time in the game loop.
      */
     public void updateY(long currentTime) {
+        previousY = y;
         y = y + ((currentTime - timeCreated) / 1000.000) + 1.000;
     }
 
@@ -0,0 +1,81 @@
+package brickGame.Model;
+
+/**
+ * Result of a swept collision test between the ball and a block.
+ * Holds the time of impact as a fraction of the ball's movement in the step, the contact normal pointing away from the block,
+ * and the face of the block that was hit as one of the Block.HIT_ codes.
+ * Contacts are mutable and reused between tests, so collision detection does not allocate.
+ */
+public class Contact {
+    private double time = Double.POSITIVE_INFINITY;
+    private double normalX;
+    private double normalY;
+    private int face = Block.NO_HIT;
+
+    /**
+     * Sets the contact to a collision.
+     *
+     * @param time The time of impact, between 0 (start of the movement) and 1 (end of the movement).
+     * @param normalX The x-component of the unit contact normal.
+     * @param normalY The y-component of the unit contact normal.
+     * @param face The face of the block that was hit.
+     */
+    void set(double time, double normalX, double normalY, int face) {
+        this.time = time;
+        this.normalX = normalX;
+        this.normalY = normalY;
+        this.face = face;
+    }
+
+    /**
+     * Copies another contact into this one.
+     *
+     * @param other The contact to copy.
+     */
+    void set(Contact other) {
+        set(other.time, other.normalX, other.normalY, other.face);
+    }
+
+    /**
+     * Resets the contact to no collision.
+     */
+    void clear() {
+        set(Double.POSITIVE_INFINITY, 0, 0, Block.NO_HIT);
+    }
+
+    /**
+     * Retrieves the time of impact.
+     *
+     * @return The fraction of the movement after which the ball touches the block.
+     */
+    public double getTime() {
+        return time;
+    }
+
+    /**
+     * Retrieves the x-component of the contact normal.
+     *
+     * @return The x-component of the unit normal, pointing away from the block.
+     */
+    public double getNormalX() {
+        return normalX;
+    }
+
+    /**
+     * Retrieves the y-component of the contact normal.
+     *
+     * @return The y-component of the unit normal, pointing away from the block.
+     */
+    public double getNormalY() {
+        return normalY;
+    }
+
+    /**
+     * Retrieves the face of the block that was hit.
+     *
+     * @return One of the Block.HIT_ codes, or Block.NO_HIT when there was no collision.
+     */
+    public int getFace() {
+        return face;
+    }
+}
@@ -1,4 +1,8 @@
 package brickGame.Model;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
 /**
  * Interface for creating custom levels in the brick game.
  * This interface allows the implementation of specific level initialization logic for different level designs.
@@ -7,6 +11,9 @@ public interface CustomLevel {
     /**
      * Initializes the level (17 and 18) with custom settings and layouts.
      * Implementations of this method should set up the new custom levels.
+     *
+     * @param blocks The list the blocks of the level are added to.
+     * @param random The random numbers of the level's board, derived from the game's seed.
      */
-    void initLevel();
+    void initLevel(List<Block> blocks, SplittableRandom random);
 }
@@ -1,6 +1,7 @@
 package brickGame.Model;
 
-import java.util.Random;
+import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * Implementation of the CustomLevel interface to define the unique layout and characteristics of level 17 in the brick game.
@@ -21,14 +22,14 @@ public class CustomLevel17 implements CustomLevel {
 
     /**
      * Initializes the layout and properties of level 17.
-     * Sets up the blocks in the game model according to a predefined layout specific to this level.
+     * Sets up the blocks according to a predefined layout specific to this level.
      * New block - 'BLOCK_COUNT_BREAKER' added requiring a certain number of hits to be destroyed.
+     *
+     * @param blocks The list the blocks of the level are added to.
+     * @param random The random numbers of the level's board, which decide the hits of the count breaker blocks.
      */
     @Override
-    public void initLevel() {
-        gameModel.getBlocks().clear();
-        Random random = new Random();
-
+    public void initLevel(List<Block> blocks, SplittableRandom random) {
         Integer[][] layout = {
                 {Block.BLOCK_COUNT_BREAKER, Block.BLOCK_COUNT_BREAKER, null, Block.BLOCK_WALL},
                 {Block.BLOCK_COUNT_BREAKER},
@@ -43,7 +44,7 @@ public class CustomLevel17 implements CustomLevel {
                     if (layout[i][j] == Block.BLOCK_COUNT_BREAKER) {
                         hitsToDestroy = 10 + random.nextInt(11);
                     }
-                    gameModel.getBlocks().add(new Block(j, i, layout[i][j], hitsToDestroy));
+                    blocks.add(new Block(j, i, layout[i][j], hitsToDestroy));
                 }
             }
         }
@@ -1,5 +1,8 @@
 package brickGame.Model;
 
+import java.util.List;
+import java.util.SplittableRandom;
+
 /**
  * Implementation of the CustomLevel interface for level 18 in the brick game.
  * This class defines the specific layout and types of blocks for level 18,
@@ -18,13 +21,15 @@ public class CustomLevel18 implements CustomLevel {
     }
     /**
      * Initializes the layout and properties of level 18.
-     * Clears any existing blocks and sets up new ones based on a predefined layout,
+     * Sets up the blocks based on a predefined layout,
      * featuring a mix of different block types for varied gameplay.
+     *
+     * @param blocks The list the blocks of the level are added to.
+     * @param random The random numbers of the level's board, not needed by this fixed layout.
      */
     @Override
-    public void initLevel() {
+    public void initLevel(List<Block> blocks, SplittableRandom random) {
         System.out.println("Custom");
-        gameModel.getBlocks().clear();
 
         Integer[][] layout = {
                 {Block.BLOCK_NORMAL, Block.BLOCK_FREEZE, Block.Block_GHOST, Block.Block_GHOST, Block.BLOCK_FREEZE, null, Block.BLOCK_FREEZE, Block.BLOCK_MYSTERY, Block.BLOCK_STAR, Block.BLOCK_WALL, Block.Block_GHOST, Block.BLOCK_MYSTERY, Block.Block_GHOST },
@@ -36,7 +41,7 @@ public class CustomLevel18 implements CustomLevel {
         for (int i = 0; i < layout.length; i++) {
             for (int j = 0; j < layout[i].length; j++) {
                 if (layout[i][j] != null) {
-                    gameModel.getBlocks().add(new Block(j, i, layout[i][j], 0));
+                    blocks.add(new Block(j, i, layout[i][j], 0));
                 }
             }
         }
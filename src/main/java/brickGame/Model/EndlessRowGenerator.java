@@ -0,0 +1,116 @@
+package brickGame.Model;
+
+import java.util.ArrayDeque;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Generates the rows of the endless board on a background thread, a few rows ahead of the row the board needs next,
+ * so scrolling only takes a finished row instead of building one on the tick thread.
+ * Each row is drawn from a stream derived from the seed and the row number, with the block types of a standard board,
+ * so the rows are the same whichever thread builds them and whenever they are built.
+ * Rows only cross threads as the results of the queued futures; the background thread reads no game state
+ * and never sees a Block, which are built from the rows on the thread updating the model.
+ */
+public class EndlessRowGenerator {
+    public static final int NO_BLOCK = -1;
+    private static final long ROW_SEED_STEP = 0xBF58476D1CE4E5B9L;
+    private static final int LOOKAHEAD_ROWS = 4;
+
+    private final long seed;
+    private final int columns;
+    private final ExecutorService executor;
+    private final ArrayDeque<Future<int[]>> pendingRows = new ArrayDeque<>();
+    private long requestedRowCount = 0;
+    private long takenRowCount = 0;
+
+    /**
+     * Constructs a generator and starts building the first rows.
+     *
+     * @param seed The seed the rows are derived from.
+     * @param columns The number of blocks per row.
+     */
+    public EndlessRowGenerator(long seed, int columns) {
+        this.seed = seed;
+        this.columns = columns;
+        this.executor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "Endless row generator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < LOOKAHEAD_ROWS; i++) {
+            requestRow();
+        }
+    }
+
+    /**
+     * Takes the next row and requests the row after the ones already being built.
+     * Waits only if the background thread has fallen behind, and builds the row itself if it is interrupted.
+     *
+     * @return The block type of every column of the row, or NO_BLOCK for an empty cell.
+     */
+    public int[] takeRow() {
+        Future<int[]> row = pendingRows.poll();
+        long rowNumber = takenRowCount++;
+        requestRow();
+        try {
+            return row.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return generateRow(rowNumber);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Generating endless row " + rowNumber + " failed", e.getCause());
+        }
+    }
+
+    /**
+     * Retrieves the number of rows taken so far.
+     *
+     * @return The number of rows handed to the board.
+     */
+    public long getTakenRowCount() {
+        return takenRowCount;
+    }
+
+    /**
+     * Stops the background thread once the board no longer needs rows.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+        pendingRows.clear();
+    }
+
+    /**
+     * Queues the next row number to be built on the background thread.
+     */
+    private void requestRow() {
+        final long rowNumber = requestedRowCount++;
+        pendingRows.add(executor.submit(() -> generateRow(rowNumber)));
+    }
+
+    /**
+     * Builds a row of the endless board.
+     * Leaves about one cell in six empty and picks the other block types like a standard board, with at most one heart per row.
+     *
+     * @param rowNumber The number of the row, counted from the first row of the board.
+     * @return The block type of every column of the row, or NO_BLOCK for an empty cell.
+     */
+    private int[] generateRow(long rowNumber) {
+        SplittableRandom random = new SplittableRandom(seed + ROW_SEED_STEP * rowNumber);
+        int[] row = new int[columns];
+        boolean hasHeartBlock = false;
+        for (int column = 0; column < columns; column++) {
+            int randomNumber = random.nextInt(500);
+            if (randomNumber % 6 == 0) {
+                row[column] = NO_BLOCK;
+                continue;
+            }
+            row[column] = GameModel.determineBlockType(randomNumber, hasHeartBlock);
+            hasHeartBlock |= row[column] == Block.BLOCK_HEART;
+        }
+        return row;
+    }
+}
@@ -0,0 +1,127 @@
+package brickGame.Model;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Monotonic clock that measures game time in milliseconds.
+ * By default it is backed by System.nanoTime(), so it does not fall behind wall time when frames stall.
+ * The clock can be paused, resumed and scaled, and starts paused.
+ * A game engine runs one such clock while the game runs, scaled by its time scale, to decide how many fixed steps each frame runs.
+ * The game time the model reads comes from a second clock, which the engine keeps paused and advances by one fixed step per tick,
+ * so game time depends only on the number of steps run and not on how fast they were run.
+ */
+public class GameClock {
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private final LongSupplier nanoSource;
+    private long baseNanos = 0;
+    private long anchorNanos;
+    private double scale = 1.0;
+    private boolean isPaused = true;
+
+    /**
+     * Constructs a new GameClock backed by System.nanoTime().
+     */
+    public GameClock() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Constructs a new GameClock backed by the given nanosecond source.
+     *
+     * @param nanoSource A monotonic source of nanosecond timestamps.
+     */
+    public GameClock(LongSupplier nanoSource) {
+        this.nanoSource = nanoSource;
+        this.anchorNanos = nanoSource.getAsLong();
+    }
+
+    /**
+     * Retrieves the current game time in nanoseconds.
+     *
+     * @return The elapsed game time in nanoseconds.
+     */
+    public long nanos() {
+        if (isPaused) {
+            return baseNanos;
+        }
+        long elapsed = nanoSource.getAsLong() - anchorNanos;
+        return baseNanos + (scale == 1.0 ? elapsed : (long) (elapsed * scale));
+    }
+
+    /**
+     * Retrieves the current game time in milliseconds.
+     *
+     * @return The elapsed game time in milliseconds.
+     */
+    public long millis() {
+        return nanos() / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Sets the current game time, for example when a saved game is loaded or a level restarts.
+     *
+     * @param millis The new game time in milliseconds.
+     */
+    public void setMillis(long millis) {
+        baseNanos = millis * NANOS_PER_MILLI;
+        anchorNanos = nanoSource.getAsLong();
+    }
+
+    /**
+     * Moves game time forward by a fixed amount, whether or not the clock is paused.
+     *
+     * @param nanos The amount of game time to add in nanoseconds.
+     */
+    public void advance(long nanos) {
+        baseNanos += nanos;
+    }
+
+    /**
+     * Pauses the clock. Game time stays at its current value until the clock is resumed or advanced.
+     */
+    public void pause() {
+        if (!isPaused) {
+            baseNanos = nanos();
+            isPaused = true;
+        }
+    }
+
+    /**
+     * Resumes the clock from the game time at which it was paused.
+     */
+    public void resume() {
+        if (isPaused) {
+            anchorNanos = nanoSource.getAsLong();
+            isPaused = false;
+        }
+    }
+
+    /**
+     * Checks if the clock is currently paused.
+     *
+     * @return True if the clock is paused, false otherwise.
+     */
+    public boolean isPaused() {
+        return isPaused;
+    }
+
+    /**
+     * Sets how fast game time passes relative to the underlying source.
+     *
+     * @param scale The time scale, where 1.0 is real time.
+     */
+    public void setScale(double scale) {
+        baseNanos = nanos();
+        anchorNanos = nanoSource.getAsLong();
+        this.scale = scale;
+    }
+
+    /**
+     * Retrieves how fast game time passes relative to the underlying source.
+     *
+     * @return The current time scale.
+     */
+    public double getScale() {
+        return scale;
+    }
+}
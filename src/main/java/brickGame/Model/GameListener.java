@@ -0,0 +1,113 @@
+package brickGame.Model;
+
+/**
+ * Observer interface for events raised by the game model while it is being updated.
+ * The model runs without any view attached, so every method has an empty default implementation
+ * and listeners only override the events they present to the player.
+ */
+public interface GameListener {
+    /**
+     * Called when the ball hits a block, whether or not the hit destroys it.
+     * The block is reported by its index, so a hit does not build a Block object for listeners that do not need one.
+     *
+     * @param blockType The type of the block that has been hit.
+     * @param index The index of the block in the game's BlockStore.
+     */
+    default void onBlockHit(BlockType blockType, int index) {
+    }
+
+    /**
+     * Called once for every block destroyed, when the model dispatches the step's destructions at the end of the physics step.
+     *
+     * @param block The block that has been destroyed.
+     */
+    default void onBlockDestroyed(Block block) {
+    }
+
+    /**
+     * Called when a block appears on the board during play, such as a block of a new row of the endless board.
+     *
+     * @param block The block that has been added.
+     */
+    default void onBlockAdded(Block block) {
+    }
+
+    /**
+     * Called when a block leaves the model for good, such as a block of a row that scrolled out of play
+     * or a destroyed block that the endless board drops. Listeners should let go of everything they keep for it.
+     *
+     * @param block The block that has been released.
+     */
+    default void onBlockReleased(Block block) {
+    }
+
+    /**
+     * Called when the endless board has scrolled down by a row, after its blocks have been moved, released and added.
+     * Listeners read the new positions from the blocks during the call, on the thread updating the model,
+     * since the blocks keep moving with later scrolls.
+     */
+    default void onBoardScrolled() {
+    }
+
+    /**
+     * Called when a bonus starts falling from a destroyed block.
+     *
+     * @param bonus The bonus that has been spawned.
+     */
+    default void onBonusSpawned(Bonus bonus) {
+    }
+
+    /**
+     * Called when the paddle catches a falling bonus.
+     *
+     * @param bonus The bonus that has been taken.
+     */
+    default void onBonusTaken(Bonus bonus) {
+    }
+
+    /**
+     * Called when a mystery bonus changes the width of the paddle.
+     *
+     * @param isExpanded True if the paddle has been expanded, false if it has been shrunken.
+     */
+    default void onPaddleResized(boolean isExpanded) {
+    }
+
+    /**
+     * Called when the ball touches the paddle.
+     */
+    default void onPaddleHit() {
+    }
+
+    /**
+     * Called when the ball reaches the bottom of the scene and the player loses a heart.
+     */
+    default void onHeartLost() {
+    }
+
+    /**
+     * Called when the gold status runs out.
+     */
+    default void onGoldStatusEnded() {
+    }
+
+    /**
+     * Called when the freeze status runs out.
+     */
+    default void onFreezeStatusEnded() {
+    }
+
+    /**
+     * Called when the ghost status runs out.
+     */
+    default void onGhostStatusEnded() {
+    }
+
+    /**
+     * Called when the multi-ball bonus has added balls.
+     *
+     * @param ballCount The number of balls now in play.
+     */
+    default void onBallsAdded(int ballCount) {
+    }
+}
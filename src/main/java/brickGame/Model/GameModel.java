@@ -6,15 +6,36 @@ import java.util.*;
  * Represents the central model for the brick game.
  * This class manages the state and logic of the game, including the ball, paddle, blocks, bonuses, and game physics.
  * It handles game level initialization, scoring, collisions, and special effects.
+ * The model does not depend on JavaFX; views observe it through a GameListener.
+ * All randomness comes from a single seed: the ball and the mystery bonus draw from SplittableRandom streams split
+ * off the seed, and every board from a stream derived from the seed and its level. Game time follows the step count,
+ * so the same seed and inputs give the same game, which computeStateHash fingerprints.
+ * In endless mode the board never completes: every few seconds it scrolls down by a row, a new row generated
+ * off the tick thread by an EndlessRowGenerator enters at the top, and rows leaving the play area are released.
  */
 public class GameModel {
-    private Ball gameball;
+    private static final int MULTI_BALL_COUNT = 2;
+    private static final long BOARD_SEED_STEP = 0x9E3779B97F4A7C15L;
+    private static final long HASH_PRIME = 0x100000001B3L;
+    private static final long HASH_OFFSET = 0xCBF29CE484222325L;
+    private static final long ENDLESS_SCROLL_INTERVAL = 4000;
+    private static final int ENDLESS_PLAY_AREA_HEIGHT = 200;
+    private final BallStore balls = new BallStore();
+    private final Ball gameball = new Ball(balls, 0);
+    private final Ball collisionBall = new Ball(balls, 0);
     private Paddle paddle;
     private Physics physics;
-    private ArrayList<Block> blocks = new ArrayList<Block>();
+    private GameClock clock = new GameClock();
+    private GameListener listener = new GameListener() {};
+    private final BlockStore blockStore = new BlockStore();
+    private final Contact contact = new Contact();
+    private final Contact firstContact = new Contact();
     private ArrayList<Bonus> chocos = new ArrayList<Bonus>();
     private ArrayList<Bonus> mysteryBlocks = new ArrayList<Bonus>();
-    private Queue<Block> blocksToRemove;
+    private final BlockEventStream destroyedBlocks = new BlockEventStream();
+    private final long seed;
+    private final SplittableRandom ballRandom;
+    private final SplittableRandom bonusRandom;
     private int level = 0;
     private int score = 0;
     private int heart = 3;
@@ -24,100 +45,267 @@ public class GameModel {
     private long ghostTime;
     private long lastHitTime = 0;
     private int paddleTimeRemaining;
+    private long paddleBonusTickTime;
+    private boolean isPaddleBonusActive = false;
     private boolean isGoldStatus = false;
     private boolean isGhostStatus = false;
     private int destroyedBlockCount;
     private int initialBlockCount;
-    private final int sceneWidth = 500;
-    private final int sceneHeight = 700;
-    private double xBallPrevious;
-    private double yBallPrevious;
+    private final BoardConfig boardConfig;
+    private final int sceneWidth;
+    private final int sceneHeight;
+    private double xPaddlePrevious;
+    private double xPaddleStepped;
     private boolean isExistHeartBlock = false;
+    private List<Block> nextBlocks;
+    private int nextBlocksLevel = -1;
+    private int nextInitialBlockCount;
     private boolean colideToBreak               = false;
     private boolean colideToBreakAndMoveToRight = true;
     private boolean colideToRightWall           = false;
     private boolean colideToLeftWall            = false;
     private boolean isFreezeStatus = false;
     private boolean paddleWidthChanged = false;
+    private boolean isEndless = false;
+    private EndlessRowGenerator rowGenerator;
+    private int endlessLastRow;
+    private long lastScrollTime;
+    private final ArrayList<Block> releasedBlocks = new ArrayList<>();
 
     /**
-     * Constructs a new GameModel instance.
-     * Initializes the paddle, ball, and collections for blocks and bonuses.
+     * Constructs a new GameModel instance with a random seed.
+     * Initializes the paddle, ball, physics, and collections for blocks and bonuses.
      */
     public GameModel() {
+        this(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Constructs a new GameModel instance whose randomness all comes from the given seed,
+     * so that games with the same seed and inputs play out identically.
+     * Initializes the paddle, ball, physics, and collections for blocks and bonuses.
+     *
+     * @param seed The seed of the game's random numbers.
+     */
+    public GameModel(long seed) {
+        this(seed, BoardConfig.DEFAULT);
+    }
+
+    /**
+     * Constructs a new seeded GameModel instance with the scene and board dimensions of a board configuration.
+     * The configuration becomes the layout of all blocks, so only one configuration is played at a time.
+     *
+     * @param seed The seed of the game's random numbers.
+     * @param boardConfig The dimensions of the scene and the boards.
+     */
+    public GameModel(long seed, BoardConfig boardConfig) {
+        this.seed = seed;
+        this.boardConfig = boardConfig;
+        this.sceneWidth = boardConfig.getSceneWidth();
+        this.sceneHeight = boardConfig.getSceneHeight();
+        Block.setLayout(boardConfig);
+        SplittableRandom random = new SplittableRandom(seed);
+        this.ballRandom = random.split();
+        this.bonusRandom = random.split();
         this.paddle = new Paddle();
-        this.gameball = initBall();
-        this.blocks = new ArrayList<>();
+        paddle.setY(boardConfig.getPaddleY());
+        initBall();
+        this.physics = new Physics(this);
         this.chocos = new ArrayList<>();
         this.mysteryBlocks = new ArrayList<>();
-        this.blocksToRemove = new LinkedList<>();
+        resetPreviousPositions();
     }
 
     /**
-     * Initializes the ball with a random position within the game scene.
+     * Initializes a single ball with a random position within the game scene, removing any other balls.
      * Ensures the ball's starting position is not within the blocks or paddle area.
-     *
-     * @return A new Ball instance with randomized position.
      */
-    private Ball initBall() {
-        Random random = new Random();
-
-        int xBall = random.nextInt(sceneWidth) + 1;
-        int blocksBottomY = (level + 2) * Block.getHeight() + Block.getPaddingTop();
+    private void initBall() {
+        int xBall = ballRandom.nextInt(sceneWidth) + 1;
+        int blockRows = isEndless ? endlessLastRow + 1 : boardConfig.getRowsForLevel(level);
+        int blocksBottomY = (blockRows + 1) * Block.getHeight() + Block.getPaddingTop();
         int paddleTopY = (int) paddle.getY();
         int ballRadius = 10;
         int ballMinY = blocksBottomY + ballRadius;
         int ballMaxY = paddleTopY - ballRadius;
 
-        int yBall = (ballMinY < ballMaxY) ? random.nextInt(ballMaxY - ballMinY) + ballMinY : ballMinY;
+        int yBall = (ballMinY < ballMaxY) ? ballRandom.nextInt(ballMaxY - ballMinY) + ballMinY : ballMinY;
 
-        return new Ball(xBall, yBall);
+        balls.clear();
+        balls.add(xBall, yBall);
     }
 
     /**
      * Initializes the game board for the current level.
-     * Sets up blocks based on the level number or custom level logic.
-     * Randomly determines block types for standard levels.
+     * Uses the board prepared by prepareNextBoard when it was built for this level, and builds the board otherwise.
      */
     public void initBoard() {
-        Random random = new Random();
+        if (isEndless) {
+            initEndlessBoard();
+            return;
+        }
+        List<Block> board = nextBlocks;
+        if (board != null && nextBlocksLevel == level) {
+            initialBlockCount = nextInitialBlockCount;
+        } else {
+            board = new ArrayList<>();
+            initialBlockCount = buildBoard(level, board);
+        }
+        nextBlocks = null;
+        nextBlocksLevel = -1;
+
+        for (int i = 0; i < board.size(); i++) {
+            blockStore.add(board.get(i));
+        }
+        for (int i = blockStore.nextAlive(0); i >= 0; i = blockStore.nextAlive(i + 1)) {
+            if (blockStore.getType(i) == Block.BLOCK_HEART) {
+                isExistHeartBlock = true;
+            }
+        }
+    }
+
+    /**
+     * Starts the endless board: restarts the row generator and fills the upper half of the play area with its first rows,
+     * the newest row at the top. The ball is placed again below the rows in play.
+     */
+    private void initEndlessBoard() {
+        startRowGenerator();
+        int initialRows = (endlessLastRow + 1) / 2;
+        for (int row = initialRows - 1; row >= 0; row--) {
+            addEndlessRow(row, rowGenerator.takeRow(), false);
+        }
+        initialBlockCount = 0;
+        resetBallForNewLevel();
+    }
+
+    /**
+     * Starts a new row generator for the endless board, stopping the previous one, and restarts the scroll interval.
+     */
+    private void startRowGenerator() {
+        stopEndlessBoard();
+        rowGenerator = new EndlessRowGenerator(seed, boardConfig.getColumns());
+        endlessLastRow = Math.max(0,
+                (boardConfig.getPaddleY() - ENDLESS_PLAY_AREA_HEIGHT - Block.getPaddingTop()) / Block.getHeight() - 1);
+        lastScrollTime = time;
+    }
+
+    /**
+     * Stops the row generator of the endless board and its background thread.
+     * Called when the game is over, and before the game is restarted or replaced by a loaded game.
+     * The board stops scrolling until it is started again.
+     */
+    public void stopEndlessBoard() {
+        if (rowGenerator != null) {
+            rowGenerator.shutdown();
+            rowGenerator = null;
+        }
+    }
+
+    /**
+     * Adds a generated row of blocks to the board.
+     *
+     * @param row The board row to place the blocks in.
+     * @param types The block type of every column, or EndlessRowGenerator.NO_BLOCK for an empty cell.
+     * @param isReported True to report every new block to the listener, false while the board is first built.
+     */
+    private void addEndlessRow(int row, int[] types, boolean isReported) {
+        for (int column = 0; column < types.length; column++) {
+            if (types[column] == EndlessRowGenerator.NO_BLOCK) {
+                continue;
+            }
+            int index = blockStore.add(row, column, types[column], 0);
+            if (isReported) {
+                listener.onBlockAdded(blockStore.getBlock(index));
+            }
+        }
+    }
+
+    /**
+     * Scrolls the endless board down by a row once the scroll interval has passed.
+     * The blocks move down, the rows beyond the play area and the destroyed blocks are released,
+     * and the next generated row enters at the top. Runs after the step's destructions have been dispatched.
+     */
+    private void updateEndlessBoard() {
+        if (rowGenerator == null || time - lastScrollTime < ENDLESS_SCROLL_INTERVAL) {
+            return;
+        }
+        lastScrollTime = time;
+        releasedBlocks.clear();
+        blockStore.shiftRowsDown(endlessLastRow, releasedBlocks);
+        for (int i = 0; i < releasedBlocks.size(); i++) {
+            listener.onBlockReleased(releasedBlocks.get(i));
+        }
+        releasedBlocks.clear();
+        addEndlessRow(0, rowGenerator.takeRow(), true);
+        listener.onBoardScrolled();
+    }
+
+    /**
+     * Builds the board of the level after the current one ahead of time, so that starting it only swaps the board in.
+     *
+     * @return The blocks of the next level's board.
+     */
+    public List<Block> prepareNextBoard() {
+        nextBlocks = new ArrayList<>();
+        nextBlocksLevel = level + 1;
+        nextInitialBlockCount = buildBoard(nextBlocksLevel, nextBlocks);
+        return nextBlocks;
+    }
 
-        if(level == 17){
+    /**
+     * Builds the blocks of a level's board.
+     * Sets up blocks based on the level number or custom level logic.
+     * Standard boards have the configured number of columns, and the configured number of rows or one more row than the level.
+     * Randomly determines block types for standard levels, from a stream derived from the seed and the level,
+     * so a board is the same whichever thread builds it and whenever it is built.
+     *
+     * @param boardLevel The level to build the board for.
+     * @param target The list the blocks are added to.
+     * @return The number of blocks that have to be destroyed to complete the level.
+     */
+    private int buildBoard(int boardLevel, List<Block> target) {
+        SplittableRandom random = new SplittableRandom(seed + BOARD_SEED_STEP * boardLevel);
+        if(boardLevel == 17){
             CustomLevel customLevel = new CustomLevel17(this);
-            customLevel.initLevel();
-            initialBlockCount = blocks.size()-2;
-        } else if(level == 18){
+            customLevel.initLevel(target, random);
+            return target.size()-2;
+        } else if(boardLevel == 18){
             CustomLevel customLevel = new CustomLevel18(this);
-            customLevel.initLevel();
-            initialBlockCount = blocks.size()-4;
-        } else {
-            for (int i = 0; i < 4; i++) {
-                for (int j = 0; j < level + 1; j++) {
-                    int randomNumber = random.nextInt(500);
+            customLevel.initLevel(target, random);
+            return target.size()-4;
+        }
 
-                    if (randomNumber % 6 == 0) {
-                        continue;
-                    }
+        boolean hasHeartBlock = false;
+        int columns = boardConfig.getColumns();
+        int rows = boardConfig.getRowsForLevel(boardLevel);
+        for (int i = 0; i < columns; i++) {
+            for (int j = 0; j < rows; j++) {
+                int randomNumber = random.nextInt(500);
 
-                    int type = determineBlockType(randomNumber);
-                    blocks.add(new Block(j, i, type, 0));
+                if (randomNumber % 6 == 0) {
+                    continue;
                 }
+
+                int type = determineBlockType(randomNumber, hasHeartBlock);
+                hasHeartBlock |= type == Block.BLOCK_HEART;
+                target.add(new Block(j, i, type, 0));
             }
-            initialBlockCount = blocks.size();
         }
+        return target.size();
     }
 
     /**
      * Determines the type of block based on a random number.
      *
      * @param randomNumber A randomly generated number used to determine the block type.
+     * @param hasHeartBlock True if the board already contains a heart block.
      * @return The type of block to be created.
      */
-    private int determineBlockType(int randomNumber) {
+    static int determineBlockType(int randomNumber, boolean hasHeartBlock) {
         if (randomNumber % 10 == 1) {
             return Block.BLOCK_CHOCO;
         } else if (randomNumber % 10 == 2) {
-            return determineHeartBlockType();
+            return determineHeartBlockType(hasHeartBlock);
         } else if (randomNumber % 10 == 3) {
             return Block.BLOCK_STAR;
         } else if (randomNumber % 10 == 4) {
@@ -131,13 +319,13 @@ public class GameModel {
 
     /**
      * Determines whether to create a heart block or a normal block.
-     * Ensures that only one heart block exists at a time.
+     * Ensures that only one heart block exists on a board.
      *
+     * @param hasHeartBlock True if the board already contains a heart block.
      * @return The block type, either BLOCK_HEART or BLOCK_NORMAL.
      */
-    private int determineHeartBlockType() {
-        if (!isExistHeartBlock) {
-            isExistHeartBlock = true;
+    private static int determineHeartBlockType(boolean hasHeartBlock) {
+        if (!hasHeartBlock) {
             return Block.BLOCK_HEART;
         } else {
             return Block.BLOCK_NORMAL;
@@ -156,124 +344,205 @@ public class GameModel {
     }
 
     /**
-     * Initializes and applies physics to the ball.
-     * Sets up the Physics object and updates the ball's movement and collision logic.
+     * Runs the update part of a game step.
+     * Records the previous ball and paddle positions and latches the game time.
      */
-    public void setPhysicsToBall() {
-        this.physics = new Physics(this);
-        physics.setPhysicsToBall();
+    public void update() {
+        balls.recordPreviousPositions();
+        xPaddlePrevious = xPaddleStepped;
+        updateTime();
     }
 
     /**
-     * Checks for collisions between the ball and the paddle.
-     *
-     * @return True if the ball collides with the paddle, false otherwise.
+     * Runs the physics part of a game step.
+     * Moves the balls in sub-steps that resolve block collisions, expires timed effects, checks the paddle and moves falling bonuses.
+     * Finally records where the paddle stood when the step ended, since the paddle is moved by input between steps.
      */
-    public boolean checkPaddleCollisions(){
-        return gameball.getY() >= paddle.getY() - gameball.getRadius() && gameball.getX() >= paddle.getX() && gameball.getX() <= paddle.getX() + paddle.getWidth();
+    public void updatePhysics() {
+        setPhysicsToBall();
+        dispatchDestroyedBlocks();
+        if (physics.isHeartLost()) {
+            listener.onHeartLost();
+        }
+
+        updateSpecialBlockStatus(time);
+
+        if (physics.getPaddleHitCount() > 0) {
+            listener.onPaddleHit();
+        }
+
+        updateBonusBlocks();
+        if (isEndless) {
+            updateEndlessBoard();
+        }
+        xPaddleStepped = paddle.getX();
     }
 
     /**
-     * Checks if the player's heart count should be decremented.
-     * This occurs when the ball falls below the bottom of the scene and the player is not in 'gold status'.
-     *
-     * @return True if heart count should be decremented, false otherwise.
+     * Sets the previous ball and paddle positions to the current ones,
+     * so that a ball or paddle placed directly is not interpolated from where it was before.
      */
-    public boolean checkHeartDecrement(){
-        return !isGoldStatus && gameball.getY() >= sceneHeight - gameball.getRadius();
+    private void resetPreviousPositions() {
+        balls.recordPreviousPositions();
+        xPaddlePrevious = paddle.getX();
+        xPaddleStepped = paddle.getX();
     }
 
     /**
-     * Updates the game state based on collisions between the ball and blocks.
-     * Manages block destruction, scoring, and special block destruction handling.
+     * Applies physics to all balls.
+     * Updates the balls' movement and their collisions with the blocks, the bottom, the paddle and the walls in one pass.
      */
-    public void updateBlockCollisions() {
-            for (final Block block : blocks) {
-                int hitCode = block.checkHitToBlock(gameball.getX(), gameball.getY(), xBallPrevious, yBallPrevious, gameball.getRadius());
-                if (hitCode != Block.NO_HIT && block.checkAndProcessHit(time)) {
-                    block.isAlreadyHit = true;
-                    if (block.type == Block.BLOCK_COUNT_BREAKER) {
-                        block.decrementCount();
-                        if (block.getHitsToDestroy() == 0) {
-                            addToScore(1);
-                            block.isDestroyed = true;
-                            blocksToRemove.add(block);
-                        }
-                    } else if (block.type != Block.BLOCK_WALL) {
-                        addToScore(1);
-                        block.isDestroyed = true;
-                        blocksToRemove.add(block);
-                    }
+    public void setPhysicsToBall() {
+        physics.setPhysicsToBall();
+    }
+
+    /**
+     * Updates the game state based on collisions between a ball and blocks during one physics sub-step.
+     * Destroys the blocks that run out of hits and emits each destruction once to the destroyed block stream,
+     * which dispatchDestroyedBlocks consumes at the end of the step.
+     * The ball is swept along its movement in the sub-step against the blocks that the block grid finds
+     * around the swept bounding box. A swept box that misses the live bounds or the occupied rows and columns
+     * of the remaining blocks ends the check at once, wherever the blocks of the level were placed.
+     * Hits are resolved in time-of-impact order: the ball is moved to the contact point of the earliest hit and bounced,
+     * then the remaining blocks are swept again from there along the new direction for the rest of the movement,
+     * until no further block is hit. The ball is left at the last contact point, and the part of the movement
+     * still to go is returned for the caller to move it by.
+     * The blocks are read from the block store by index; a Block object is never built for a hit.
+     *
+     * @param ball The index of the ball.
+     * @param fraction The part of the ball's velocity it moves in the sub-step.
+     * @return The part of the ball's velocity it still has to move by in the sub-step, after its last contact.
+     */
+    double updateBlockCollisions(int ball, double fraction) {
+        collisionBall.setIndex(ball);
+        double radius = collisionBall.getRadius();
+        double x = collisionBall.getX();
+        double y = collisionBall.getY();
+        double reach = radius + 2 * fraction * (Math.abs(collisionBall.getVelocityX()) + Math.abs(collisionBall.getVelocityY())) + 1;
+        int candidateCount = blockStore.queryCandidates(x - reach, y - reach, x + reach, y + reach);
+        if (candidateCount == 0) {
+            return fraction;
+        }
+
+        double remaining = fraction;
+        for (int pass = 0; pass < candidateCount; pass++) {
+            double deltaX = collisionBall.getDeltaX() * remaining;
+            double deltaY = collisionBall.getDeltaY() * remaining;
+            int index = findFirstContact(candidateCount, x, y, deltaX, deltaY, radius);
+            if (index < 0) {
+                break;
+            }
 
-                    handleSpecialBlock(block);
-                    physics.handleBlockCollisions(hitCode, time);
+            double contactTime = firstContact.getTime();
+            x += deltaX * contactTime;
+            y += deltaY * contactTime;
+            remaining -= remaining * contactTime;
+            blockStore.markHitThisStep(index);
+            int hitCode = firstContact.getFace();
+            if (blockStore.checkAndProcessHit(index, time)) {
+                BlockType blockType = BlockType.of(blockStore.getType(index));
+                if (blockType.isDestroyedByHit(blockStore, index)) {
+                    blockStore.destroy(index);
+                    destroyedBlocks.emit(index);
                 }
+                listener.onBlockHit(blockType, index);
             }
+            physics.handleBlockCollisions(ball, hitCode);
+        }
+
+        blockStore.clearHitsThisStep();
+        collisionBall.setX(x);
+        collisionBall.setY(y);
+        return remaining;
+    }
 
-        for (final Block block : blocks) {
-            if (block.type == Block.BLOCK_WALL || block.type == Block.BLOCK_COUNT_BREAKER) {
-                block.resetHitFlagOnce();
+    /**
+     * Sweeps the ball against the candidate blocks not hit yet in this step and keeps the earliest contact.
+     *
+     * @param candidateCount The number of candidates found by the block store's query.
+     * @param x The x-coordinate of the ball.
+     * @param y The y-coordinate of the ball.
+     * @param deltaX The movement of the ball along the x-axis.
+     * @param deltaY The movement of the ball along the y-axis.
+     * @param radius The radius of the ball.
+     * @return The index of the block hit first, whose contact is stored in firstContact, or -1 if no block is hit.
+     */
+    private int findFirstContact(int candidateCount, double x, double y, double deltaX, double deltaY, double radius) {
+        int first = -1;
+        firstContact.clear();
+        for (int i = 0; i < candidateCount; i++) {
+            int index = blockStore.getCandidate(i);
+            if (blockStore.sweep(index, x, y, deltaX, deltaY, radius, contact) != Block.NO_HIT
+                    && contact.getTime() < firstContact.getTime()) {
+                firstContact.set(contact);
+                first = index;
             }
         }
+        return first;
     }
 
     /**
-     * Handles the effects of hitting a special block in the game.
-     * This includes updating game states like score, gold time, and activating bonuses.
+     * Handles the effects of destroying a special block in the game, as described by its block type.
+     * This includes updating game states like gold time and hearts, and spawning bonuses.
      *
-     * @param block The block that has been hit by the ball.
+     * @param block The block that has been destroyed.
+     * @param blockType The type of the block.
      */
-    private void handleSpecialBlock(final Block block) {
-        if (block.type == Block.BLOCK_CHOCO) {
-            final Bonus choco = new Bonus(block.row, block.column, Block.BLOCK_CHOCO);
-            choco.timeCreated = time;
-        } else if (block.type == Block.BLOCK_STAR) {
-            goldTime = time;
-            isGoldStatus = true;
-        } else if (block.type == Block.BLOCK_HEART) {
-            heart++;
-        } else if (block.type == Block.BLOCK_FREEZE) {
-            freezeTime = time;
-            isFreezeStatus = true;
-        } else if (block.type == Block.BLOCK_MYSTERY) {
-            final Bonus mystery = new Bonus(block.row, block.column, Block.BLOCK_MYSTERY);
-            mystery.timeCreated = time;
-        } else if (block.type == Block.Block_GHOST) {
-            ghostTime = time;
-            isGhostStatus = true;
+    private void handleSpecialBlock(final Block block, BlockType blockType) {
+        blockType.applyEffect(this);
+        Bonus bonus = blockType.spawnBonus(this, block);
+        if (bonus != null) {
+            listener.onBonusSpawned(bonus);
         }
     }
 
     /**
-     * Removes blocks from the game that have been marked as destroyed.
-     * Updates the count of destroyed blocks.
+     * Consumes the blocks destroyed during this step, once each and in the order they were destroyed.
+     * Every destruction is counted and scored, applies the effect of its block type, such as spawning a bonus,
+     * and is reported to the listener, which updates the view. The stream is then emptied for the next step.
+     * The block store has already dropped the blocks from collision detection when they were destroyed.
      */
-    public void removeDestroyedBlocks() {
-        Iterator<Block> iterator = blocks.iterator();
-        while (iterator.hasNext()) {
-            Block block = iterator.next();
-            if (blocksToRemove.contains(block)) {
-                iterator.remove();
-                destroyedBlockCount++;
-            }
+    public void dispatchDestroyedBlocks() {
+        for (int i = 0; i < destroyedBlocks.size(); i++) {
+            Block block = blockStore.getBlock(destroyedBlocks.get(i));
+            BlockType blockType = BlockType.of(block.type);
+            destroyedBlockCount++;
+            addToScore(blockType.getScore());
+            listener.onBlockDestroyed(block);
+            handleSpecialBlock(block, blockType);
         }
+        destroyedBlocks.clear();
+    }
+
+    /**
+     * Latches the current game time from the game clock.
+     * Called once per update so that every check within the same step sees the same time.
+     */
+    public void updateTime() {
+        time = clock.millis();
     }
 
     /**
      * Updates the status of special blocks based on the current time.
-     * Handles the duration of effects like gold, freeze, and ghost status.
+     * Handles the duration of effects like gold, freeze, ghost status and the paddle width bonus.
      *
      * @param currentTime The current time in the game loop.
      */
     public void updateSpecialBlockStatus(long currentTime) {
-        if (currentTime - goldTime > 5000) {
+        if (isGoldStatus && currentTime - goldTime > 5000) {
             isGoldStatus = false;
+            listener.onGoldStatusEnded();
         }
-        if(currentTime - freezeTime > 3000){
+        if(isFreezeStatus && currentTime - freezeTime > 3000){
             isFreezeStatus = false;
+            listener.onFreezeStatusEnded();
         }
-        if(currentTime - ghostTime > 1500){
+        if(isGhostStatus && currentTime - ghostTime > 1500){
             isGhostStatus = false;
+            listener.onGhostStatusEnded();
+        }
+        if (isPaddleBonusActive) {
+            updatePaddleBonus(currentTime);
         }
     }
 
@@ -287,18 +556,27 @@ public class GameModel {
     }
     /**
      * Handles updates for a list of bonus items.
+     * Bonuses caught by the paddle are removed from the list.
+     * The list is walked by index and compacted in place, so the update does not allocate an iterator every step.
      *
      * @param bonuses The list of bonus items to update.
      */
     public void handleBonusUpdates(List<Bonus> bonuses) {
-        for (Bonus bonus : bonuses) {
-            if (shouldSkipBonus(bonus)) {
-                continue;
-            }
-            if (handleBonusCollision(bonus)) {
-                processBonusCollision(bonus );
+        int kept = 0;
+        int count = bonuses.size();
+        for (int i = 0; i < count; i++) {
+            Bonus bonus = bonuses.get(i);
+            if (!shouldSkipBonus(bonus)) {
+                if (handleBonusCollision(bonus)) {
+                    processBonusCollision(bonus);
+                    continue;
+                }
+                updateBonusPosition(bonus);
             }
-            updateBonusPosition(bonus);
+            bonuses.set(kept++, bonus);
+        }
+        for (int i = count - 1; i >= kept; i--) {
+            bonuses.remove(i);
         }
     }
 
@@ -335,40 +613,68 @@ public class GameModel {
         if (type == Block.BLOCK_CHOCO) {
             addToScore(3);
         } else if (type == Block.BLOCK_MYSTERY) {
-            Random random = new Random();
-            boolean increaseWidth = random.nextBoolean();
+            int effect = bonusRandom.nextInt(3);
 
-            if (increaseWidth) {
-                paddle.increaseWidth();
-                System.out.println("Congrats! The paddle width has been expanded for 10 seconds");
+            if (effect == 2) {
+                addBalls(MULTI_BALL_COUNT);
+                listener.onBallsAdded(balls.size());
             } else {
-                paddle.decreaseWidth();
-                System.out.println("Oh No! The paddle width has been shrunken for 10 seconds");
+                boolean increaseWidth = effect == 0;
+                if (increaseWidth) {
+                    paddle.increaseWidth();
+                } else {
+                    paddle.decreaseWidth();
+                }
+                listener.onPaddleResized(increaseWidth);
+
+                paddleWidthChanged = true;
+                paddleTimeRemaining = 10;
+                processPaddleBonus();
             }
+        }
+        listener.onBonusTaken(bonus);
+    }
 
-            paddleWidthChanged = true;
-            paddleTimeRemaining = 10;
-            processPaddleBonus();
+    /**
+     * Adds balls at the position of the main ball, each moving upwards at a different angle.
+     * Used by the multi-ball mystery bonus and by stress runs with many balls.
+     *
+     * @param count The number of balls to add.
+     */
+    public void addBalls(int count) {
+        double x = gameball.getX();
+        double y = gameball.getY();
+        for (int i = 0; i < count; i++) {
+            double velocityX = 0.5 + (i % 4) * 0.5;
+            balls.add(x, y, velocityX, gameball.getVelocityY(), false, i % 2 == 0);
         }
     }
 
     /**
      * Processes the effect of a paddle-related bonus.
-     * Manages the duration and reversal of paddle size changes.
+     * Starts counting down the remaining bonus seconds in game time.
      */
     private void processPaddleBonus(){
-        new Timer().scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-            if (paddleTimeRemaining > 0) {
-                paddleTimeRemaining--;
-            } else {
-                paddle.resetWidth();
-                paddleWidthChanged = true;
-                this.cancel();
-            }
-            }
-        }, 0, 1000);
+        isPaddleBonusActive = true;
+        paddleBonusTickTime = time;
+    }
+
+    /**
+     * Counts down the paddle bonus in whole seconds of game time.
+     * Resets the paddle width once no time remains.
+     *
+     * @param currentTime The current time in the game loop.
+     */
+    private void updatePaddleBonus(long currentTime) {
+        while (paddleTimeRemaining > 0 && currentTime - paddleBonusTickTime >= 1000) {
+            paddleTimeRemaining--;
+            paddleBonusTickTime += 1000;
+        }
+        if (paddleTimeRemaining <= 0) {
+            paddle.resetWidth();
+            paddleWidthChanged = true;
+            isPaddleBonusActive = false;
+        }
     }
 
     /**
@@ -394,11 +700,12 @@ public class GameModel {
     /**
      * Checks if the current level is completed.
      * Level completion is based on whether all non-special blocks have been destroyed.
+     * The endless board never completes.
      *
      * @return True if the level is completed, false otherwise.
      */
     public boolean checkLevelCompletion() {
-        return destroyedBlockCount == initialBlockCount;
+        return !isEndless && destroyedBlockCount == initialBlockCount;
     }
 
     /**
@@ -412,7 +719,7 @@ public class GameModel {
         isGoldStatus = false;
         isFreezeStatus = false;
         isExistHeartBlock = false;
-        time = 0;
+        setTime(0);
         goldTime = 0;
         freezeTime = 0;
         paddleTimeRemaining = 0;
@@ -421,21 +728,22 @@ public class GameModel {
 
     /**
      * Resets the main game elements for a new game or level.
-     * Clears blocks, bonuses, and resets the block count.
+     * Clears blocks, bonuses, pending block destructions, and resets the block count.
      */
     public void resetGameElements() {
-        blocks.clear();
+        clearBlocks();
         chocos.clear();
-        mysteryBlocks.clear();;
+        mysteryBlocks.clear();
         destroyedBlockCount = 0;
     }
 
     /**
      * Resets the ball for a new level.
-     * Re-initializes the ball with a random position.
+     * Re-initializes a single ball with a random position.
      */
     public void resetBallForNewLevel() {
-        this.gameball = initBall();
+        initBall();
+        resetPreviousPositions();
     }
 
     /**
@@ -443,7 +751,10 @@ public class GameModel {
      * Resets score, heart, level, and all game elements to their initial state.
      */
     public void resetGameForRestart(){
+        stopEndlessBoard();
         level = 0;
+        nextBlocks = null;
+        nextBlocksLevel = -1;
         heart = 3;
         score = 0;
         gameball.setVelocityX(1.000);
@@ -452,7 +763,7 @@ public class GameModel {
         isFreezeStatus = false;
         isGhostStatus = false;
         isExistHeartBlock = false;
-        time = 0;
+        setTime(0);
         goldTime = 0;
         freezeTime = 0;
         ghostTime = 0;
@@ -474,11 +785,17 @@ public class GameModel {
     /**
      * Loads a saved game state.
      * Reads the saved game state and applies it to the current game model.
+     * On the endless board the row generator is started again; the rows entered so far are not saved,
+     * so new rows start over from the first row the seed gives.
      */
     public void loadSavedGame(){
         LoadSave loadSave = new LoadSave();
         loadSave.read();
+        stopEndlessBoard();
         applyStateToGameModel(loadSave);
+        if (isEndless) {
+            startRowGenerator();
+        }
     }
 
     /**
@@ -489,6 +806,95 @@ public class GameModel {
     public void applyStateToGameModel(LoadSave loadSave) {
         new LoadGame(this).applyStateToGameModel(loadSave);
         processPaddleBonus();
+        xPaddlePrevious = paddle.getX();
+        xPaddleStepped = paddle.getX();
+    }
+
+    /**
+     * Writes the state needed for rendering into a snapshot.
+     * Called by the thread updating the model, so the view can draw from the snapshot instead of the model.
+     *
+     * @param snapshot The snapshot to overwrite.
+     * @param stateNanos The System.nanoTime() timestamp at which the current step's state is due.
+     * @param stepNanos The length of a fixed step in nanoseconds.
+     */
+    public void writeSnapshot(GameSnapshot snapshot, long stateNanos, long stepNanos) {
+        snapshot.capture(this, stateNanos, stepNanos);
+    }
+
+    /**
+     * Computes a fingerprint of the game state, to check that runs with the same seed and inputs stay identical.
+     * Covers the level, score, hearts, game time, timed effects, paddle, every ball, every block and every bonus.
+     * Blocks are hashed with their row and column, which their positions follow, since the endless board moves them down.
+     * Doubles are hashed by their bits, so equal hashes mean bit-identical states.
+     *
+     * @return The 64-bit FNV-1a hash of the state.
+     */
+    public long computeStateHash() {
+        long hash = HASH_OFFSET;
+        hash = hashValue(hash, level);
+        hash = hashValue(hash, score);
+        hash = hashValue(hash, heart);
+        hash = hashValue(hash, time);
+        hash = hashValue(hash, destroyedBlockCount);
+        hash = hashValue(hash, (isGoldStatus ? 1 : 0) | (isFreezeStatus ? 2 : 0) | (isGhostStatus ? 4 : 0));
+        hash = hashValue(hash, Double.doubleToLongBits(paddle.getX()));
+        hash = hashValue(hash, paddle.getWidth());
+
+        hash = hashValue(hash, balls.size());
+        for (int i = 0; i < balls.size(); i++) {
+            hash = hashValue(hash, Double.doubleToLongBits(balls.getX(i)));
+            hash = hashValue(hash, Double.doubleToLongBits(balls.getY(i)));
+            hash = hashValue(hash, Double.doubleToLongBits(balls.getVelocityX(i)));
+            hash = hashValue(hash, Double.doubleToLongBits(balls.getVelocityY(i)));
+            hash = hashValue(hash, (balls.isGoingDown(i) ? 1 : 0) | (balls.isGoingRight(i) ? 2 : 0));
+        }
+
+        hash = hashValue(hash, blockStore.size());
+        for (int i = 0; i < blockStore.size(); i++) {
+            hash = hashValue(hash, blockStore.isAlive(i) ? 1 : 0);
+            hash = hashValue(hash, blockStore.getRow(i));
+            hash = hashValue(hash, blockStore.getColumn(i));
+            hash = hashValue(hash, blockStore.getType(i));
+            hash = hashValue(hash, blockStore.getHitsLeft(i));
+        }
+
+        hash = hashBonuses(hash, chocos);
+        return hashBonuses(hash, mysteryBlocks);
+    }
+
+    /**
+     * Adds the falling bonuses of a list to a state hash.
+     *
+     * @param hash The hash so far.
+     * @param bonuses The bonuses to add.
+     * @return The updated hash.
+     */
+    private static long hashBonuses(long hash, List<Bonus> bonuses) {
+        hash = hashValue(hash, bonuses.size());
+        for (int i = 0; i < bonuses.size(); i++) {
+            Bonus bonus = bonuses.get(i);
+            hash = hashValue(hash, Double.doubleToLongBits(bonus.getX()));
+            hash = hashValue(hash, Double.doubleToLongBits(bonus.getY()));
+            hash = hashValue(hash, bonus.getType());
+            hash = hashValue(hash, bonus.isTaken() ? 1 : 0);
+        }
+        return hash;
+    }
+
+    /**
+     * Adds a value to a state hash, one byte at a time.
+     *
+     * @param hash The hash so far.
+     * @param value The value to add.
+     * @return The updated hash.
+     */
+    private static long hashValue(long hash, long value) {
+        for (int i = 0; i < Long.BYTES; i++) {
+            hash = (hash ^ (value & 0xFF)) * HASH_PRIME;
+            value >>>= 8;
+        }
+        return hash;
     }
 
     /**
@@ -517,12 +923,33 @@ public class GameModel {
 
     // Getter and setter methods
     /**
-     * Retrieves the game's ball instance.
+     * Retrieves the game's main ball.
      *
      * @return The current Ball object in the game.
      */
     public Ball getGameball() { return gameball; }
 
+    /**
+     * Retrieves the seed all randomness of the game is derived from.
+     *
+     * @return The seed of the game.
+     */
+    public long getSeed() { return seed; }
+
+    /**
+     * Retrieves the physics of the game, which holds the sub-step settings and counts.
+     *
+     * @return The Physics of the game.
+     */
+    public Physics getPhysics() { return physics; }
+
+    /**
+     * Retrieves the store holding all balls in play. The main ball is at index 0.
+     *
+     * @return The BallStore of the game.
+     */
+    public BallStore getBalls() { return balls; }
+
     /**
      * Retrieves the game's paddle instance.
      *
@@ -531,18 +958,46 @@ public class GameModel {
     public Paddle getPaddle() { return paddle; }
 
     /**
-     * Retrieves the list of all blocks currently in the game.
+     * Retrieves the blocks currently in the game as Block objects, for rendering.
+     * The objects are built on demand from the block store.
+     *
+     * @return A list of the Block objects that are not destroyed.
+     */
+    public List<Block> getBlocks() { return blockStore.getAliveBlocks(); }
+
+    /**
+     * Retrieves the store that holds the state of the blocks in the game.
      *
-     * @return An ArrayList containing all Block objects.
+     * @return The BlockStore of the game.
      */
-    public ArrayList<Block> getBlocks() { return blocks; }
+    public BlockStore getBlockStore() { return blockStore; }
 
     /**
      * Adds a new block to the game.
      *
      * @param block The Block object to be added to the game.
      */
-    public void addBlock(Block block) { blocks.add(block); }
+    public void addBlock(Block block) { blockStore.add(block); }
+
+    /**
+     * Adds a new block to the game without building its Block object, as when restoring a saved game.
+     *
+     * @param row The row of the block.
+     * @param column The column of the block.
+     * @param type The type of the block.
+     * @param hitsToDestroy The number of hits left to destroy a count breaker block.
+     */
+    public void addBlock(int row, int column, int type, int hitsToDestroy) {
+        blockStore.add(row, column, type, hitsToDestroy);
+    }
+
+    /**
+     * Removes all blocks from the game.
+     */
+    public void clearBlocks() {
+        blockStore.clear();
+        destroyedBlocks.clear();
+    }
 
     /**
      * Adds a chocolate bonus to the game.
@@ -674,7 +1129,7 @@ public class GameModel {
      * @return The previous x-coordinate.
      */
     public double getXBallPrevious(){
-        return xBallPrevious;
+        return balls.getPreviousX(0);
     }
 
     /**
@@ -683,7 +1138,16 @@ public class GameModel {
      * @return The previous y-coordinate.
      */
     public double getYBallPrevious(){
-        return yBallPrevious;
+        return balls.getPreviousY(0);
+    }
+
+    /**
+     * Retrieves the x-coordinate of the paddle at the end of the step before the last one.
+     *
+     * @return The previous x-coordinate of the paddle.
+     */
+    public double getXPaddlePrevious(){
+        return xPaddlePrevious;
     }
 
     /**
@@ -705,12 +1169,12 @@ public class GameModel {
     }
 
     /**
-     * Retrieves the queue of blocks that are marked for removal from the game.
+     * Retrieves the stream of blocks destroyed during the current step and not dispatched yet.
      *
-     * @return A queue of Block objects to be removed.
+     * @return The BlockEventStream of destroyed blocks.
      */
-    public Queue<Block> getBlocksToRemove() {
-        return blocksToRemove;
+    public BlockEventStream getDestroyedBlocks() {
+        return destroyedBlocks;
     }
 
     /**
@@ -785,6 +1249,52 @@ public class GameModel {
         return colideToLeftWall;
     }
 
+    /**
+     * Retrieves the dimensions of the scene and the boards.
+     *
+     * @return The board configuration of the game.
+     */
+    public BoardConfig getBoardConfig() {
+        return boardConfig;
+    }
+
+    /**
+     * Sets whether boards are endless, scrolling in generated rows instead of building a level's board.
+     * Takes effect when the next board is initialized.
+     *
+     * @param isEndless True to play the endless board, false to play levels.
+     */
+    public void setEndless(boolean isEndless) {
+        this.isEndless = isEndless;
+    }
+
+    /**
+     * Checks if the endless board is played.
+     *
+     * @return True in endless mode, false when playing levels.
+     */
+    public boolean isEndless() {
+        return isEndless;
+    }
+
+    /**
+     * Retrieves the last board row of the endless board; rows scrolling below it leave play.
+     *
+     * @return The last row in play, or 0 before an endless board has been started.
+     */
+    public int getEndlessLastRow() {
+        return endlessLastRow;
+    }
+
+    /**
+     * Retrieves the number of rows the endless board has taken from its generator.
+     *
+     * @return The number of generated rows that entered the board, 0 when not in endless mode or once the board is stopped.
+     */
+    public long getEndlessRowCount() {
+        return rowGenerator != null ? rowGenerator.getTakenRowCount() : 0;
+    }
+
     /**
      * Retrieves the height of the game scene.
      *
@@ -809,7 +1319,7 @@ public class GameModel {
      * @param x The previous x-coordinate.
      */
     public void setXBallPrevious(double x) {
-        this.xBallPrevious = x;
+        balls.setPreviousX(0, x);
     }
 
     /**
@@ -818,7 +1328,7 @@ public class GameModel {
      * @param y The previous y-coordinate.
      */
     public void setYBallPrevious(double y) {
-        this.yBallPrevious = y;
+        balls.setPreviousY(0, y);
     }
 
     /**
@@ -858,12 +1368,40 @@ public class GameModel {
     }
 
     /**
-     * Sets the game time.
+     * Sets the game time and moves the game clock to it.
      *
      * @param time The new game time.
      */
     public void setTime(long time) {
         this.time = time;
+        clock.setMillis(time);
+    }
+
+    /**
+     * Sets the listener that observes events raised while the game is updated.
+     *
+     * @param listener The GameListener to notify, typically the controller driving the view.
+     */
+    public void setListener(GameListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Retrieves the clock that measures game time.
+     *
+     * @return The GameClock shared with the game engine.
+     */
+    public GameClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Sets the clock that measures game time.
+     *
+     * @param clock The GameClock to read game time from.
+     */
+    public void setClock(GameClock clock) {
+        this.clock = clock;
     }
 
     /**
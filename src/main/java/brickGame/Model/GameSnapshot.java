@@ -0,0 +1,272 @@
+package brickGame.Model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Render snapshot of the game state that a view draws from.
+ * The simulation writes a snapshot through GameModel.writeSnapshot and hands it over to the view,
+ * which only reads it, so the view never touches the mutable model while it is being updated.
+ * Moving objects are captured at the previous and the current step, so the view can interpolate between them
+ * by how far the render time has advanced into the following step.
+ * Snapshots are reused between frames to avoid allocating one per frame.
+ */
+public class GameSnapshot {
+    private boolean isCaptured = false;
+    private long stateNanos;
+    private long stepNanos;
+    private int level;
+    private int score;
+    private int heart;
+    private double[] ballX = new double[1];
+    private double[] ballY = new double[1];
+    private double[] previousBallX = new double[1];
+    private double[] previousBallY = new double[1];
+    private int ballCount;
+    private double paddleX;
+    private double previousPaddleX;
+    private double paddleY;
+    private int paddleWidth;
+    private Bonus[] bonuses = new Bonus[8];
+    private double[] bonusY = new double[8];
+    private double[] previousBonusY = new double[8];
+    private int bonusCount;
+
+    /**
+     * Copies the state needed for rendering from the game model.
+     *
+     * @param gameModel The game model to capture.
+     * @param stateNanos The System.nanoTime() timestamp at which the current step's state is due.
+     * @param stepNanos The length of a fixed step in nanoseconds.
+     */
+    void capture(GameModel gameModel, long stateNanos, long stepNanos) {
+        this.stateNanos = stateNanos;
+        this.stepNanos = stepNanos;
+        level = gameModel.getLevel();
+        score = gameModel.getScore();
+        heart = gameModel.getHeart();
+        captureBalls(gameModel.getBalls());
+        paddleX = gameModel.getPaddle().getX();
+        previousPaddleX = gameModel.getXPaddlePrevious();
+        paddleY = gameModel.getPaddle().getY();
+        paddleWidth = gameModel.getPaddle().getWidth();
+
+        bonusCount = 0;
+        captureBonuses(gameModel.getChocos());
+        captureBonuses(gameModel.getMysteries());
+        isCaptured = true;
+    }
+
+    /**
+     * Copies the current and previous positions of all balls, growing the arrays when needed.
+     *
+     * @param balls The balls to capture.
+     */
+    private void captureBalls(BallStore balls) {
+        ballCount = balls.size();
+        if (ballCount > ballX.length) {
+            int capacity = Math.max(ballCount, ballX.length * 2);
+            ballX = Arrays.copyOf(ballX, capacity);
+            ballY = Arrays.copyOf(ballY, capacity);
+            previousBallX = Arrays.copyOf(previousBallX, capacity);
+            previousBallY = Arrays.copyOf(previousBallY, capacity);
+        }
+        for (int i = 0; i < ballCount; i++) {
+            ballX[i] = balls.getX(i);
+            ballY[i] = balls.getY(i);
+            previousBallX[i] = balls.getPreviousX(i);
+            previousBallY[i] = balls.getPreviousY(i);
+        }
+    }
+
+    /**
+     * Copies the falling bonuses and their positions, growing the arrays when needed.
+     *
+     * @param source The bonuses to capture.
+     */
+    private void captureBonuses(List<Bonus> source) {
+        int required = bonusCount + source.size();
+        if (required > bonuses.length) {
+            int capacity = Math.max(required, bonuses.length * 2);
+            bonuses = Arrays.copyOf(bonuses, capacity);
+            bonusY = Arrays.copyOf(bonusY, capacity);
+            previousBonusY = Arrays.copyOf(previousBonusY, capacity);
+        }
+        for (int i = 0; i < source.size(); i++) {
+            Bonus bonus = source.get(i);
+            bonuses[bonusCount] = bonus;
+            bonusY[bonusCount] = bonus.getY();
+            previousBonusY[bonusCount] = bonus.getPreviousY();
+            bonusCount++;
+        }
+    }
+
+    /**
+     * Checks if the snapshot has been captured from a model at least once.
+     *
+     * @return True if the snapshot holds game state, false if it is still empty.
+     */
+    public boolean isCaptured() {
+        return isCaptured;
+    }
+
+    /**
+     * Computes how far a render at the given time lies between the previous and the current step.
+     * The factor is clamped, so a late simulation shows the current step instead of extrapolating past it.
+     *
+     * @param now The System.nanoTime() timestamp of the render.
+     * @return The interpolation factor between 0 (previous step) and 1 (current step).
+     */
+    public double getAlpha(long now) {
+        double alpha = (double) (now - stateNanos) / stepNanos;
+        return Math.max(0.0, Math.min(1.0, alpha));
+    }
+
+    /**
+     * Interpolates linearly between a previous and a current value.
+     *
+     * @param previous The value at the previous step.
+     * @param current The value at the current step.
+     * @param alpha The interpolation factor between 0 and 1.
+     * @return The interpolated value.
+     */
+    private static double interpolate(double previous, double current, double alpha) {
+        return previous + (current - previous) * alpha;
+    }
+
+    /**
+     * Retrieves the captured level.
+     *
+     * @return The level number.
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Retrieves the captured score.
+     *
+     * @return The score.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Retrieves the captured number of hearts.
+     *
+     * @return The number of hearts.
+     */
+    public int getHeart() {
+        return heart;
+    }
+
+    /**
+     * Retrieves the x-coordinate of the main ball interpolated between the previous and the current step.
+     *
+     * @param alpha The interpolation factor from getAlpha.
+     * @return The x-coordinate of the ball.
+     */
+    public double getBallX(double alpha) {
+        return getBallX(0, alpha);
+    }
+
+    /**
+     * Retrieves the y-coordinate of the main ball interpolated between the previous and the current step.
+     *
+     * @param alpha The interpolation factor from getAlpha.
+     * @return The y-coordinate of the ball.
+     */
+    public double getBallY(double alpha) {
+        return getBallY(0, alpha);
+    }
+
+    /**
+     * Retrieves the number of balls captured.
+     *
+     * @return The number of balls, the main ball included.
+     */
+    public int getBallCount() {
+        return ballCount;
+    }
+
+    /**
+     * Retrieves the x-coordinate of a ball interpolated between the previous and the current step.
+     *
+     * @param index The index of the ball, below getBallCount().
+     * @param alpha The interpolation factor from getAlpha.
+     * @return The x-coordinate of the ball.
+     */
+    public double getBallX(int index, double alpha) {
+        return interpolate(previousBallX[index], ballX[index], alpha);
+    }
+
+    /**
+     * Retrieves the y-coordinate of a ball interpolated between the previous and the current step.
+     *
+     * @param index The index of the ball, below getBallCount().
+     * @param alpha The interpolation factor from getAlpha.
+     * @return The y-coordinate of the ball.
+     */
+    public double getBallY(int index, double alpha) {
+        return interpolate(previousBallY[index], ballY[index], alpha);
+    }
+
+    /**
+     * Retrieves the x-coordinate of the paddle interpolated between the previous and the current step.
+     *
+     * @param alpha The interpolation factor from getAlpha.
+     * @return The x-coordinate of the paddle.
+     */
+    public double getPaddleX(double alpha) {
+        return interpolate(previousPaddleX, paddleX, alpha);
+    }
+
+    /**
+     * Retrieves the captured y-coordinate of the paddle.
+     *
+     * @return The y-coordinate of the paddle.
+     */
+    public double getPaddleY() {
+        return paddleY;
+    }
+
+    /**
+     * Retrieves the captured width of the paddle.
+     *
+     * @return The width of the paddle.
+     */
+    public int getPaddleWidth() {
+        return paddleWidth;
+    }
+
+    /**
+     * Retrieves the number of falling bonuses captured.
+     *
+     * @return The number of bonuses.
+     */
+    public int getBonusCount() {
+        return bonusCount;
+    }
+
+    /**
+     * Retrieves a captured falling bonus.
+     *
+     * @param index The index of the bonus, below getBonusCount().
+     * @return The bonus at the given index.
+     */
+    public Bonus getBonus(int index) {
+        return bonuses[index];
+    }
+
+    /**
+     * Retrieves the y-coordinate of a falling bonus interpolated between the previous and the current step.
+     *
+     * @param index The index of the bonus, below getBonusCount().
+     * @param alpha The interpolation factor from getAlpha.
+     * @return The y-coordinate of the bonus at the given index.
+     */
+    public double getBonusY(int index, double alpha) {
+        return interpolate(previousBonusY[index], bonusY[index], alpha);
+    }
+}
@@ -49,7 +49,8 @@ public class LoadGame {
             gameModel.setInitialBlockCount(loadSave.blocks.size() + loadSave.destroyedBlockCount);
         }
 
-        // Setting ball state
+        // Setting ball state, only the main ball is saved
+        gameModel.resetBallForNewLevel();
         Ball gameball = gameModel.getGameball();
         gameball.setX(loadSave.xBall);
         gameball.setY(loadSave.yBall);
@@ -82,14 +83,14 @@ public class LoadGame {
 
     /**
      * Restores the block states from their serializable form.
-     * Converts BlockSerializable objects back into Block objects and adds them to the game model.
+     * Adds the saved blocks to the game model's block store.
      *
      * @param blockSerializables The list of BlockSerializable objects representing the saved block states.
      */
     private void restoreBlocksFromSerializable(ArrayList<BlockSerializable> blockSerializables) {
-        gameModel.getBlocks().clear();
+        gameModel.clearBlocks();
         for (BlockSerializable ser : blockSerializables) {
-            gameModel.addBlock(new Block(ser.row, ser.j, ser.type, ser.countBreakerCount));
+            gameModel.addBlock(ser.row, ser.j, ser.type, ser.countBreakerCount);
         }
     }
 }
@@ -110,17 +110,10 @@ public class LoadSave {
      */
     private void saveBlocks(ObjectOutputStream outputStream, GameModel gameModel) throws IOException {
         ArrayList<BlockSerializable> blockSerializables = new ArrayList<>();
-        for (Block block : gameModel.getBlocks()) {
-            if (block.isDestroyed) {
-                continue;
-            }
-            int countBreakerCount = 0;
-            if (block.type == Block.BLOCK_COUNT_BREAKER) {
-                countBreakerCount = block.getHitsToDestroy();
-            }
-
-            blockSerializables.add(new BlockSerializable(block.row, block.column, block.type, countBreakerCount));
-
+        BlockStore blockStore = gameModel.getBlockStore();
+        for (int i = blockStore.nextAlive(0); i >= 0; i = blockStore.nextAlive(i + 1)) {
+            blockSerializables.add(new BlockSerializable(blockStore.getRow(i), blockStore.getColumn(i),
+                    blockStore.getType(i), blockStore.getHitsLeft(i)));
         }
         outputStream.writeObject(blockSerializables);
     }
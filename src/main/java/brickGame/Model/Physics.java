@@ -1,15 +1,63 @@
 package brickGame.Model;
 
 /**
- * Manages the physics of the ball in the game, including ball movement and collision handling.
- * This class is responsible for updating the ball's position and handling interactions with the paddle and blocks.
+ * Manages the physics of the balls in the game, including ball movement and collision handling.
+ * This class is responsible for updating the balls' positions and handling interactions with the paddle and blocks.
+ * All balls are handled in one pass over the game model's BallStore through a single Ball handle.
+ * Each ball's step is split into as many sub-steps as needed to keep its travel per sub-step below a fraction
+ * of its radius, and every sub-step runs the block, bottom, paddle and wall checks, so fast balls do not skip geometry.
+ * Between bounces a ball moves in a straight line, so after every checked step the number of steps until it could next
+ * touch a wall, the bottom, the paddle line or a block is predicted from its velocity and the clearance to the nearest block.
+ * Until then the ball's steps only move it, through the same sub-steps, which gives the same result as checking them.
  */
 public class Physics {
+    private static final double DEFAULT_MAX_TRAVEL_FRACTION = 0.5;
+    private static final int MAX_SUB_STEPS = 64;
+    private static final int MAX_CONTACT_HORIZON = 32;
+    private static final double QUERY_MARGIN = 3.0;
+    private static final int HIT_CODE_COUNT = 8;
+    private static final int RESPONSE_DOWN = 1;
+    private static final int RESPONSE_RIGHT = 2;
+    private static final int RESPONSE_STEEPEN = 4;
+    private static final double STEEPENED_VELOCITY_Y = 1.0 + Ball.ANGLE_ADJUSTMENT;
+
+    /**
+     * Responses to block hits, indexed by the hit code times four plus the ball's direction bits (1 down, 2 right).
+     * Each entry holds the new direction bits and RESPONSE_STEEPEN when the vertical angle is adjusted.
+     * Faces reverse one direction; corners reverse the side the ball moves away from, or steepen and reverse vertically.
+     */
+    private static final byte[] RESPONSES = {
+            // HIT_RIGHT: up-left, down-left, up-right, down-right
+            2, 3, 2, 3,
+            // HIT_BOTTOM
+            1, 1, 3, 3,
+            // HIT_LEFT
+            0, 1, 0, 1,
+            // HIT_TOP
+            0, 0, 2, 2,
+            // HIT_TOP_LEFT
+            0, 4, 0, 6,
+            // HIT_TOP_RIGHT
+            2, 4, 2, 6,
+            // HIT_BOTTOM_LEFT
+            5, 1, 7, 1,
+            // HIT_BOTTOM_RIGHT
+            5, 3, 7, 3,
+    };
+
+    private final BallStore balls;
     private final Ball gameball;
     private final GameModel gameModel;
     private final Paddle paddle;
-    private int previousHitCode = Block.NO_HIT;
-    private long lastHitTime = 0;
+    private final BlockStore blockStore;
+    private int paddleHitCount = 0;
+    private boolean isHeartLost = false;
+    private double maxTravelFraction = DEFAULT_MAX_TRAVEL_FRACTION;
+    private int subStepCount = 0;
+    private int maxSubStepCount = 0;
+    private boolean isContactPrediction = true;
+    private long seenBlockAddCount = -1;
+    private int predictedBallStepCount = 0;
 
     /**
      * Constructs a new Physics object.
@@ -18,19 +66,190 @@ public class Physics {
      */
     public Physics(GameModel gameModel) {
         this.gameModel = gameModel;
-        this.gameball = gameModel.getGameball();
+        this.balls = gameModel.getBalls();
+        this.gameball = new Ball(balls, 0);
         this.paddle = gameModel.getPaddle();
+        this.blockStore = gameModel.getBlockStore();
     }
 
     /**
-     * Updates the ball's position and handles its interactions with other game objects.
-     * Includes checking for collisions with the paddle, walls, and blocks.
+     * Updates the positions of all balls and handles their interactions with the blocks, the bottom, the paddle and the walls.
+     * The balls are handled from the last index down, so a lost ball can be removed during the pass.
+     * A ball within its contact horizon is only moved; the horizons are cleared when blocks are added to the board.
      */
     public void setPhysicsToBall() {
-        gameball.updatePosition();
-        handleGameOverConditions();
-        handleBreakCollisions();
-        handleWallCollisions();
+        paddleHitCount = 0;
+        isHeartLost = false;
+        subStepCount = 0;
+        maxSubStepCount = 0;
+        predictedBallStepCount = 0;
+        if (blockStore.getAddCount() != seenBlockAddCount) {
+            seenBlockAddCount = blockStore.getAddCount();
+            balls.clearContactHorizons();
+        }
+        for (int i = balls.size() - 1; i >= 0; i--) {
+            gameball.setIndex(i);
+            int subSteps = computeSubSteps();
+            double fraction = 1.0 / subSteps;
+            subStepCount += subSteps;
+            maxSubStepCount = Math.max(maxSubStepCount, subSteps);
+
+            int horizon = balls.getContactHorizon(i);
+            if (isContactPrediction && horizon > 0) {
+                for (int step = 0; step < subSteps; step++) {
+                    gameball.updatePosition(fraction);
+                }
+                balls.setContactHorizon(i, horizon - 1);
+                predictedBallStepCount++;
+                continue;
+            }
+
+            boolean isRemoved = false;
+            for (int step = 0; step < subSteps; step++) {
+                double remaining = gameModel.updateBlockCollisions(i, fraction);
+                gameball.setIndex(i);
+                gameball.updatePosition(remaining);
+                if (handleGameOverConditions()) {
+                    isRemoved = true;
+                    break;
+                }
+                handleBreakCollisions();
+                handleWallCollisions();
+            }
+            if (isContactPrediction && !isRemoved) {
+                balls.setContactHorizon(i, predictContactHorizon());
+            }
+        }
+    }
+
+    /**
+     * Predicts how many coming steps the current ball can move without any check, because its straight path cannot reach
+     * a wall, the top or bottom of the scene, the paddle line or the bounding box a block query would search around it.
+     * The prediction is conservative: it keeps a step of margin and the block query margins of updateBlockCollisions.
+     *
+     * @return The number of coming steps without a possible contact, at most MAX_CONTACT_HORIZON.
+     */
+    private int predictContactHorizon() {
+        double x = gameball.getX();
+        double y = gameball.getY();
+        double deltaX = gameball.getDeltaX();
+        double deltaY = gameball.getDeltaY();
+        double radius = gameball.getRadius();
+        double speed = Math.max(Math.abs(deltaX), Math.abs(deltaY));
+        if (speed == 0) {
+            return 0;
+        }
+
+        double horizon = MAX_CONTACT_HORIZON;
+        horizon = Math.min(horizon, stepsInside(x, deltaX, 0, gameModel.getSceneWidth()));
+        horizon = Math.min(horizon, stepsInside(y, deltaY, 0, Math.min(gameModel.getSceneHeight(), paddle.getY()) - radius));
+
+        double reach = radius + 2 * (Math.abs(deltaX) + Math.abs(deltaY)) + QUERY_MARGIN;
+        double clearance = blockStore.findClearance(x, y, reach + speed * (MAX_CONTACT_HORIZON + 1));
+        horizon = Math.min(horizon, Math.floor((clearance - reach) / speed) - 1);
+        return Math.max(0, (int) horizon);
+    }
+
+    /**
+     * Computes how many whole steps a coordinate moving by a fixed delta per step stays strictly between two limits,
+     * less one step of margin against rounding.
+     *
+     * @param position The current coordinate.
+     * @param delta The movement per step.
+     * @param low The lower limit.
+     * @param high The upper limit.
+     * @return The number of steps, negative when the coordinate is not strictly between the limits.
+     */
+    private static double stepsInside(double position, double delta, double low, double high) {
+        if (position <= low || position >= high) {
+            return -1;
+        }
+        if (delta > 0) {
+            return Math.floor((high - position) / delta) - 1;
+        }
+        if (delta < 0) {
+            return Math.floor((position - low) / -delta) - 1;
+        }
+        return MAX_CONTACT_HORIZON;
+    }
+
+    /**
+     * Enables or disables the prediction of contact-free steps.
+     * Without it every step of every ball runs all checks, which gives the same game more slowly.
+     *
+     * @param isContactPrediction True to only move balls in steps without a possible contact, false to check every step.
+     */
+    public void setContactPrediction(boolean isContactPrediction) {
+        this.isContactPrediction = isContactPrediction;
+        balls.clearContactHorizons();
+    }
+
+    /**
+     * Checks if contact-free steps are predicted and only move the balls.
+     *
+     * @return True if contact prediction is enabled, false otherwise.
+     */
+    public boolean isContactPrediction() {
+        return isContactPrediction;
+    }
+
+    /**
+     * Retrieves how many balls were only moved in the last step, because they were within their contact horizon.
+     *
+     * @return The number of balls whose checks were skipped in the last step.
+     */
+    public int getPredictedBallStepCount() {
+        return predictedBallStepCount;
+    }
+
+    /**
+     * Computes how many sub-steps the current ball needs to travel at most the allowed fraction of its radius per sub-step.
+     *
+     * @return The number of sub-steps, at least one.
+     */
+    private int computeSubSteps() {
+        double velocityX = gameball.getVelocityX();
+        double velocityY = gameball.getVelocityY();
+        double travel = Math.sqrt(velocityX * velocityX + velocityY * velocityY);
+        double maxTravel = gameball.getRadius() * maxTravelFraction;
+        return Math.max(1, Math.min(MAX_SUB_STEPS, (int) Math.ceil(travel / maxTravel)));
+    }
+
+    /**
+     * Sets how far a ball may travel per sub-step, as a fraction of its radius.
+     * Smaller fractions make collision handling more precise at the cost of more sub-steps.
+     *
+     * @param maxTravelFraction The largest travel per sub-step relative to the ball's radius, greater than 0.
+     */
+    public void setMaxTravelFraction(double maxTravelFraction) {
+        this.maxTravelFraction = maxTravelFraction;
+    }
+
+    /**
+     * Retrieves how far a ball may travel per sub-step, as a fraction of its radius.
+     *
+     * @return The largest travel per sub-step relative to the ball's radius.
+     */
+    public double getMaxTravelFraction() {
+        return maxTravelFraction;
+    }
+
+    /**
+     * Retrieves the number of sub-steps run in the last step, summed over all balls.
+     *
+     * @return The number of sub-steps in the last step.
+     */
+    public int getSubStepCount() {
+        return subStepCount;
+    }
+
+    /**
+     * Retrieves the largest number of sub-steps a single ball needed in the last step.
+     *
+     * @return The most sub-steps of one ball in the last step.
+     */
+    public int getMaxSubStepCount() {
+        return maxSubStepCount;
     }
 
     /**
@@ -39,10 +258,29 @@ public class Physics {
      */
     private void handleBreakCollisions() {
         if (checkPaddleCollisions()) {
+            paddleHitCount++;
             calculateBallDirectionAfterBreakCollision();
         }
     }
 
+    /**
+     * Retrieves the number of balls that bounced off the paddle in the last pass.
+     *
+     * @return The number of paddle hits.
+     */
+    public int getPaddleHitCount() {
+        return paddleHitCount;
+    }
+
+    /**
+     * Checks if a heart was lost in the last pass.
+     *
+     * @return True if the last ball in play fell to the bottom without gold status, false otherwise.
+     */
+    public boolean isHeartLost() {
+        return isHeartLost;
+    }
+
     /**
      * Checks if there is a collision between the ball and the paddle.
      *
@@ -94,11 +332,18 @@ public class Physics {
     /**
      * Handles game over conditions based on the ball's position.
      * Checks if the ball has reached the boundaries of the play area and updates the game state accordingly.
+     * While more than one ball is in play, a ball falling to the bottom without gold status is removed instead of costing a heart.
+     *
+     * @return True if the ball was removed, false otherwise.
      */
-    public void handleGameOverConditions() {
+    private boolean handleGameOverConditions() {
         int sceneHeight = gameModel.getSceneHeight();
 
         if (gameball.getY() <= 0 || gameball.getY() >= sceneHeight - gameball.getRadius()) {
+            if (checkHeartDecrement() && balls.size() > 1) {
+                balls.remove(gameball.getIndex());
+                return true;
+            }
             gameModel.resetColideFlags();
             if (gameball.getY() >= sceneHeight - gameball.getRadius()) {
                 gameball.bounceUp();
@@ -108,8 +353,10 @@ public class Physics {
             }
             if (checkHeartDecrement()) {
                 gameModel.setHeart(gameModel.getHeart() - 1);
+                isHeartLost = true;
             }
         }
+        return false;
     }
 
     /**
@@ -124,7 +371,7 @@ public class Physics {
 
     /**
      * Handles collisions between the ball and the walls of the game area.
-     * Updates the ball's direction upon hitting a wall.
+     * Turns the ball away from the wall it hit, so a ball still beyond the wall in the next sub-step is not turned back.
      */
     public void handleWallCollisions() {
         int sceneWidth = gameModel.getSceneWidth();
@@ -132,176 +379,127 @@ public class Physics {
         if (gameball.getX() >= sceneWidth || gameball.getX() <= 0) {
             gameModel.resetColideFlags();
             gameModel.setColideToRightWall(gameball.getX() >= sceneWidth);
-            gameball.bounceHorizontally();
+            if (gameball.getX() >= sceneWidth) {
+                gameball.bounceLeft();
+            } else {
+                gameball.bounceRight();
+            }
         }
     }
 
     /**
      * Handles collisions between the ball and blocks.
-     * Adjusts the ball's direction and velocity based on the type and position of the collision.
+     * Adjusts the ball's direction and velocity based on the face of the block that was hit.
+     * Hits are found by a swept test and resolved one at a time in time-of-impact order,
+     * so a ball touching two blocks at once is bounced by the first block and then no longer moves into the second.
+     * The response is looked up in the response table instead of branching on the face and the ball's direction.
      *
-     * @param hitCode The code indicating the type of collision.
-     * @param time The current time in the game loop to keep track on last hit time and check for double block destruction.
+     * @param ballIndex The index of the ball that hit the block.
+     * @param hitCode The code indicating the face of the block that was hit.
      */
-    public void handleBlockCollisions(int hitCode, long time) {
-        gameball.setVelocityY(1.0);
-        if (time - lastHitTime > 5) {
-            previousHitCode = Block.NO_HIT;
-        }
+    public void handleBlockCollisions(int ballIndex, int hitCode) {
+        respondByTable(balls, ballIndex, hitCode);
+    }
 
-        if ((hitCode == Block.HIT_TOP_RIGHT && previousHitCode == Block.HIT_BOTTOM_RIGHT) ||
-                (hitCode == Block.HIT_BOTTOM_RIGHT && previousHitCode == Block.HIT_TOP_RIGHT)) {
-            handleRightBlockCollision();
-        } else if ((hitCode == Block.HIT_TOP_LEFT && previousHitCode == Block.HIT_BOTTOM_LEFT) ||
-                (hitCode == Block.HIT_BOTTOM_LEFT && previousHitCode == Block.HIT_TOP_LEFT)) {
-            handleLeftBlockCollision();
-        } else if ((hitCode == Block.HIT_TOP_LEFT && previousHitCode == Block.HIT_TOP_RIGHT) ||
-                (hitCode == Block.HIT_TOP_RIGHT && previousHitCode == Block.HIT_TOP_LEFT)) {
-            handleTopLeftBlockCollision();
-        } else if ((hitCode == Block.HIT_BOTTOM_RIGHT && previousHitCode == Block.HIT_BOTTOM_LEFT) ||
-                (hitCode == Block.HIT_BOTTOM_LEFT && previousHitCode == Block.HIT_BOTTOM_RIGHT)) {
-            handleBottomLeftBlockCollision();
-        } else if ((hitCode == Block.HIT_TOP_RIGHT && previousHitCode == Block.HIT_BOTTOM_LEFT) ||
-                (hitCode == Block.HIT_BOTTOM_LEFT && previousHitCode == Block.HIT_TOP_RIGHT)) {
-            invertVerticalDirection();
-            invertHorizontalDirection();
-        } else if ((hitCode == Block.HIT_TOP_LEFT && previousHitCode == Block.HIT_BOTTOM_RIGHT) ||
-                (hitCode == Block.HIT_BOTTOM_RIGHT && previousHitCode == Block.HIT_TOP_LEFT)) {
-            invertVerticalDirection();
-            invertHorizontalDirection();
-        }
+    /**
+     * Bounces a ball off a block face by looking up the response table.
+     * The table is indexed by the face and the ball's direction, and gives the new direction
+     * and whether the vertical angle is steepened, so every contact runs the same code without branching on the face.
+     *
+     * @param balls The store holding the ball.
+     * @param index The index of the ball.
+     * @param hitCode The code of the block face that was hit, one of the Block.HIT_ codes.
+     */
+    public static void respondByTable(BallStore balls, int index, int hitCode) {
+        int direction = (balls.isGoingDown(index) ? RESPONSE_DOWN : 0) | (balls.isGoingRight(index) ? RESPONSE_RIGHT : 0);
+        int response = RESPONSES[(hitCode << 2) | direction];
+        balls.setVelocityY(index, (response & RESPONSE_STEEPEN) != 0 ? STEEPENED_VELOCITY_Y : 1.0);
+        balls.setGoingDown(index, (response & RESPONSE_DOWN) != 0);
+        balls.setGoingRight(index, (response & RESPONSE_RIGHT) != 0);
+    }
+
+    /**
+     * Bounces a ball off a block face by testing the face and the ball's direction in turn.
+     * This is the original response logic the response table encodes; it is kept as the reference the table is validated against.
+     *
+     * @param balls The store holding the ball.
+     * @param index The index of the ball.
+     * @param hitCode The code of the block face that was hit, one of the Block.HIT_ codes.
+     */
+    public static void respondByBranches(BallStore balls, int index, int hitCode) {
+        Ball ball = new Ball(balls, index);
+        ball.setVelocityY(1.0);
 
         if (hitCode == Block.HIT_TOP) {
-            handleTopBlockCollision();
+            ball.bounceUp();
         } else if (hitCode == Block.HIT_BOTTOM) {
-            handleBottomBlockCollision();
+            ball.bounceDown();
         } else if (hitCode == Block.HIT_LEFT) {
-            handleLeftBlockCollision();
+            ball.bounceLeft();
         } else if (hitCode == Block.HIT_RIGHT) {
-            handleRightBlockCollision();
+            ball.bounceRight();
         } else if (hitCode == Block.HIT_TOP_LEFT) {
-            handleTopLeftBlockCollision();
+            if (ball.isGoingUp()) {
+                ball.bounceLeft();
+            } else {
+                ball.adjustVerticalAngle();
+                ball.bounceUp();
+            }
         } else if (hitCode == Block.HIT_TOP_RIGHT) {
-            handleTopRightBlockCollision();
+            if (ball.isGoingUp()) {
+                ball.bounceRight();
+            } else {
+                ball.adjustVerticalAngle();
+                ball.bounceUp();
+            }
         } else if (hitCode == Block.HIT_BOTTOM_LEFT) {
-            handleBottomLeftBlockCollision();
+            if (ball.isGoingDown()) {
+                ball.bounceLeft();
+            } else {
+                ball.adjustVerticalAngle();
+                ball.bounceDown();
+            }
         } else if (hitCode == Block.HIT_BOTTOM_RIGHT) {
-            handleBottomRightBlockCollision();
-        }
-
-        previousHitCode = hitCode;
-        lastHitTime = time;
-    }
-
-    /**
-     * Handles the collision of the ball with the top side of a block.
-     * Causes the ball to bounce upward.
-     */
-    private void handleTopBlockCollision() {
-        gameball.bounceUp();
-    }
-
-    /**
-     * Handles the collision of the ball with the bottom side of a block.
-     * Causes the ball to bounce downward.
-     */
-    private void handleBottomBlockCollision() {
-        gameball.bounceDown();
-    }
-
-    /**
-     * Handles the collision of the ball with the left side of a block.
-     * Causes the ball to bounce to the left.
-     */
-    private void handleLeftBlockCollision() {
-        gameball.bounceLeft();
-    }
-
-    /**
-     * Handles the collision of the ball with the right side of a block.
-     * Causes the ball to bounce to the right.
-     */
-    private void handleRightBlockCollision() {
-        gameball.bounceRight();
-    }
-
-    /**
-     * Handles the collision of the ball with the top-left corner of a block.
-     * Adjusts the ball's vertical angle and direction based on its current trajectory.
-     */
-    private void handleTopLeftBlockCollision() {
-        if (gameball.isGoingUp()) {
-            gameball.bounceLeft();
-        } else if (gameball.isGoingLeft()) {
-            gameball.adjustVerticalAngle();
-            gameball.bounceUp();
-        } else {
-            gameball.adjustVerticalAngle();
-            gameball.bounceUp();
-        }
-    }
-
-    /**
-     * Handles the collision of the ball with the top-right corner of a block.
-     * Adjusts the ball's vertical angle and direction based on its current trajectory.
-     */
-    private void handleTopRightBlockCollision() {
-        if (gameball.isGoingUp()) {
-            gameball.bounceRight();
-        } else if (gameball.isGoingRight()) {
-            gameball.adjustVerticalAngle();
-            gameball.bounceUp();
-        } else {
-            gameball.adjustVerticalAngle();
-            gameball.bounceUp();
-        }
-    }
-
-    /**
-     * Handles the collision of the ball with the bottom-left corner of a block.
-     * Adjusts the ball's vertical angle and direction based on its current trajectory.
-     */
-    private void handleBottomLeftBlockCollision() {
-        if (gameball.isGoingDown()) {
-            gameball.bounceLeft();
-        } else if (gameball.isGoingLeft()) {
-            gameball.adjustVerticalAngle();
-            gameball.bounceDown();
-        } else {
-            gameball.adjustVerticalAngle();
-            gameball.bounceDown();
+            if (ball.isGoingDown()) {
+                ball.bounceRight();
+            } else {
+                ball.adjustVerticalAngle();
+                ball.bounceDown();
+            }
         }
     }
 
     /**
-     * Handles the collision of the ball with the bottom-right corner of a block.
-     * Adjusts the ball's vertical angle and direction based on its current trajectory.
+     * Checks the response table against the branching response logic for every block face,
+     * every direction of the ball and a few vertical speeds.
+     *
+     * @return The number of combinations where the table gives a different ball state, 0 if the table is correct.
      */
-    private void handleBottomRightBlockCollision() {
-        if (gameball.isGoingDown()) {
-            gameball.bounceRight();
-        } else if (gameball.isGoingRight()) {
-            gameball.adjustVerticalAngle();
-            gameball.bounceDown();
-        } else {
-            gameball.adjustVerticalAngle();
-            gameball.bounceDown();
+    public static int countResponseTableMismatches() {
+        double[] velocities = {1.0, STEEPENED_VELOCITY_Y, 2.5};
+        BallStore byTable = new BallStore();
+        BallStore byBranches = new BallStore();
+        int mismatches = 0;
+        for (int hitCode = 0; hitCode < HIT_CODE_COUNT; hitCode++) {
+            for (int direction = 0; direction < 4; direction++) {
+                for (double velocityY : velocities) {
+                    boolean goingDown = (direction & RESPONSE_DOWN) != 0;
+                    boolean goingRight = (direction & RESPONSE_RIGHT) != 0;
+                    byTable.clear();
+                    byBranches.clear();
+                    byTable.add(0, 0, 2.0, velocityY, goingDown, goingRight);
+                    byBranches.add(0, 0, 2.0, velocityY, goingDown, goingRight);
+                    respondByTable(byTable, 0, hitCode);
+                    respondByBranches(byBranches, 0, hitCode);
+                    if (byTable.getVelocityY(0) != byBranches.getVelocityY(0)
+                            || byTable.getVelocityX(0) != byBranches.getVelocityX(0)
+                            || byTable.isGoingDown(0) != byBranches.isGoingDown(0)
+                            || byTable.isGoingRight(0) != byBranches.isGoingRight(0)) {
+                        mismatches++;
+                    }
+                }
+            }
         }
-    }
-
-    /**
-     * Inverts the vertical direction of the ball.
-     * Used when the ball collides with objects in a manner that requires a vertical direction change.
-     */
-    private void invertVerticalDirection(){
-        gameball.bounceVertically();
-    }
-
-    /**
-     * Inverts the horizontal direction of the ball.
-     * Used when the ball collides with objects in a manner that requires a horizontal direction change.
-     */
-    private void invertHorizontalDirection(){
-        gameball.bounceHorizontally();
+        return mismatches;
     }
 }
@@ -0,0 +1,67 @@
+package brickGame.Model;
+
+/**
+ * Overlap kernel that tests the blocks one at a time.
+ * Used when the Vector API is not available, and for the blocks left over after the last full vector.
+ */
+public class ScalarOverlapKernel implements BlockStore.OverlapKernel {
+
+    /**
+     * Collects the blocks whose box overlaps a bounding box, testing one block per iteration.
+     *
+     * @param xs The x-coordinates of the blocks' left edges.
+     * @param ys The y-coordinates of the blocks' top edges.
+     * @param count The number of blocks to test, starting at index 0.
+     * @param width The width of a block.
+     * @param height The height of a block.
+     * @param left The left edge of the bounding box.
+     * @param top The top edge of the bounding box.
+     * @param right The right edge of the bounding box.
+     * @param bottom The bottom edge of the bounding box.
+     * @param result The array the indexes of the overlapping blocks are written to, holding at least count entries.
+     * @return The number of indexes written.
+     */
+    @Override
+    public int collect(int[] xs, int[] ys, int count, int width, int height,
+                       int left, int top, int right, int bottom, int[] result) {
+        return collect(xs, ys, 0, count, left - width, top - height, right, bottom, result, 0);
+    }
+
+    /**
+     * Collects the overlapping blocks within a range of indexes.
+     * A block overlaps when its left edge lies between minX and maxX and its top edge between minY and maxY.
+     *
+     * @param xs The x-coordinates of the blocks' left edges.
+     * @param ys The y-coordinates of the blocks' top edges.
+     * @param from The first index to test.
+     * @param to The index after the last one to test.
+     * @param minX The smallest left edge of an overlapping block.
+     * @param minY The smallest top edge of an overlapping block.
+     * @param maxX The largest left edge of an overlapping block.
+     * @param maxY The largest top edge of an overlapping block.
+     * @param result The array the indexes are written to.
+     * @param found The number of indexes already written.
+     * @return The number of indexes written in total.
+     */
+    static int collect(int[] xs, int[] ys, int from, int to, int minX, int minY, int maxX, int maxY,
+                       int[] result, int found) {
+        for (int i = from; i < to; i++) {
+            int x = xs[i];
+            int y = ys[i];
+            if (x >= minX && x <= maxX && y >= minY && y <= maxY) {
+                result[found++] = i;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Retrieves the name of the kernel.
+     *
+     * @return "scalar".
+     */
+    @Override
+    public String getName() {
+        return "scalar";
+    }
+}
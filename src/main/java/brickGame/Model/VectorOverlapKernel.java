@@ -0,0 +1,73 @@
+package brickGame.Model;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Overlap kernel that tests as many blocks per instruction as the CPU's preferred integer vector holds,
+ * using the incubating Vector API. The block positions are loaded straight from the block store's primitive arrays.
+ * This class is only loaded through BlockStore.createOverlapKernel when the jdk.incubator.vector module is present,
+ * which needs --add-modules jdk.incubator.vector at run time; otherwise the scalar kernel is used.
+ */
+public class VectorOverlapKernel implements BlockStore.OverlapKernel {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    /**
+     * Collects the blocks whose box overlaps a bounding box, testing a full vector of blocks per iteration.
+     * The blocks after the last full vector are tested by the scalar kernel.
+     *
+     * @param xs The x-coordinates of the blocks' left edges.
+     * @param ys The y-coordinates of the blocks' top edges.
+     * @param count The number of blocks to test, starting at index 0.
+     * @param width The width of a block.
+     * @param height The height of a block.
+     * @param left The left edge of the bounding box.
+     * @param top The top edge of the bounding box.
+     * @param right The right edge of the bounding box.
+     * @param bottom The bottom edge of the bounding box.
+     * @param result The array the indexes of the overlapping blocks are written to, holding at least count entries.
+     * @return The number of indexes written.
+     */
+    @Override
+    public int collect(int[] xs, int[] ys, int count, int width, int height,
+                       int left, int top, int right, int bottom, int[] result) {
+        int minX = left - width;
+        int minY = top - height;
+        int found = 0;
+        int i = 0;
+        int upperBound = SPECIES.loopBound(count);
+        IntVector minXs = IntVector.broadcast(SPECIES, minX);
+        IntVector maxXs = IntVector.broadcast(SPECIES, right);
+        IntVector minYs = IntVector.broadcast(SPECIES, minY);
+        IntVector maxYs = IntVector.broadcast(SPECIES, bottom);
+        for (; i < upperBound; i += SPECIES.length()) {
+            IntVector x = IntVector.fromArray(SPECIES, xs, i);
+            IntVector y = IntVector.fromArray(SPECIES, ys, i);
+            VectorMask<Integer> overlaps = x.compare(VectorOperators.GE, minXs)
+                    .and(x.compare(VectorOperators.LE, maxXs))
+                    .and(y.compare(VectorOperators.GE, minYs))
+                    .and(y.compare(VectorOperators.LE, maxYs));
+            if (!overlaps.anyTrue()) {
+                continue;
+            }
+            long bits = overlaps.toLong();
+            while (bits != 0) {
+                result[found++] = i + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        return ScalarOverlapKernel.collect(xs, ys, i, count, minX, minY, right, bottom, result, found);
+    }
+
+    /**
+     * Retrieves the name of the kernel, including the number of blocks tested per instruction.
+     *
+     * @return "vector" and the vector length.
+     */
+    @Override
+    public String getName() {
+        return "vector x" + SPECIES.length();
+    }
+}
@@ -1,14 +1,11 @@
 package brickGame.View;
 
 import brickGame.Model.Block;
-import javafx.scene.image.Image;
+import brickGame.Model.BlockType;
 import javafx.scene.paint.Color;
-import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Text;
 
-import java.util.Random;
-
 /**
  * Provides the graphical representation of a block in the brick game.
  * This class is responsible for drawing the block and applying the appropriate visual styles based on its type.
@@ -17,8 +14,8 @@ public class BlockView {
     private final Block block;
     private final Rectangle rect;
     private Text blockText;
-    private final int width = 100;
-    private final int height = 30;
+    private final int width = Block.getWidth();
+    private final int height = Block.getHeight();
 
     /**
      * Constructs a new BlockView object for a given block.
@@ -26,58 +23,53 @@ public class BlockView {
      * @param block The Block object to be visually represented.
      */
     public BlockView(Block block) {
+        this(block, block.x, block.y, block.row);
+    }
+
+    /**
+     * Constructs a new BlockView object for a block at a given position, such as a block of the endless board
+     * whose position was read on the thread that moves it.
+     *
+     * @param block The Block object to be visually represented.
+     * @param x The x-coordinate of the block.
+     * @param y The y-coordinate of the block.
+     * @param row The row of the block, which selects its image among those of its type.
+     */
+    public BlockView(Block block, int x, int y, int row) {
         this.block = block;
         rect = new Rectangle();
         rect.setWidth(width);
         rect.setHeight(height);
 
-        draw();
+        draw(x, y, row);
     }
 
     /**
-     * Draws the block and applies the appropriate image pattern based on the block type.
-     * Sets the block's position and size, and chooses the image pattern corresponding to its type.
+     * Draws the block and applies the image pattern of its block type.
+     * Sets the block's position and size, and labels blocks that count their hits with the hits they still need.
+     *
+     * @param x The x-coordinate of the block.
+     * @param y The y-coordinate of the block.
+     * @param row The row of the block.
      */
-    private void draw() {
-        int paddingH = 50;
-        int x = (block.column * width) + paddingH;
-        int paddingTop = height * 2;
-        int y = (block.row * height) + paddingTop;
-
+    private void draw(int x, int y, int row) {
         rect.setX(x);
         rect.setY(y);
 
-        if (block.type == Block.BLOCK_CHOCO) {
-            setImagePattern("choco.jpg");
-        } else if (block.type == Block.BLOCK_HEART) {
-            setImagePattern("heart.jpg");
-        } else if (block.type == Block.BLOCK_STAR) {
-            setImagePattern("star.jpg");
-        } else if (block.type == Block.BLOCK_FREEZE) {
-            setImagePattern("freeze.jpg");
-        } else if (block.type == Block.BLOCK_MYSTERY) {
-            setImagePattern("mystery.jpg");
-        } else if (block.type == Block.BLOCK_WALL) {
-            setImagePattern("bedrock.jpg");
-        } else if (block.type == Block.Block_GHOST) {
-            setImagePattern("ghost.jpg");
-        } else if (block.type == Block.BLOCK_COUNT_BREAKER) {
-            block.blockText = createBlockText("" + block.getHitsToDestroy());
-            setImagePattern("countBreaker.jpeg");
-        } else {
-            setImagePattern(getRandomBrickImage());
+        BlockType blockType = BlockType.of(block.type);
+        if (blockType.isCountingHits()) {
+            createBlockText(Integer.toString(block.getHitsToDestroy()));
         }
+        setImagePattern(blockType.getTexture(row, block.column));
     }
 
     /**
-     * Applies an image pattern to the block.
+     * Applies an image pattern to the block. The pattern is shared through the ImageCache.
      *
      * @param imageName The name of the image file to be used as the pattern for the block.
      */
     private void setImagePattern(String imageName) {
-        Image image = new Image(imageName);
-        ImagePattern pattern = new ImagePattern(image);
-        rect.setFill(pattern);
+        rect.setFill(ImageCache.getPattern(imageName));
     }
 
     /**
@@ -95,13 +87,29 @@ public class BlockView {
     }
 
     /**
-     * Selects a random image for a normal brick block.
+     * Moves the block's rectangle and label to where the block now stands, after the endless board has scrolled.
      *
-     * @return The file name of the randomly selected brick image.
+     * @param x The new x-coordinate of the block.
+     * @param y The new y-coordinate of the block.
      */
-    private String getRandomBrickImage() {
-        int imageIndex = new Random().nextInt(3);
-        return "brick" + (imageIndex + 1) + ".jpg";
+    public void updatePosition(int x, int y) {
+        rect.setX(x);
+        rect.setY(y);
+        if (blockText != null) {
+            blockText.setX(rect.getX() + (double) width / 2 - blockText.getLayoutBounds().getWidth() / 2);
+            blockText.setY(rect.getY() + (double) height / 2 + blockText.getLayoutBounds().getHeight() / 4);
+        }
+    }
+
+    /**
+     * Refreshes the label of a count breaker block with the number of hits it still needs.
+     *
+     * @param hitsToDestroy The number of hits the block still needs.
+     */
+    public void updateBlockText(int hitsToDestroy) {
+        if (blockText != null) {
+            blockText.setText(Integer.toString(hitsToDestroy));
+        }
     }
 
     /**
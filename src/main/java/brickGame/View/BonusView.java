@@ -0,0 +1,71 @@
+package brickGame.View;
+
+import brickGame.Model.Block;
+import brickGame.Model.Bonus;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * Provides the graphical representation of a falling bonus in the brick game.
+ * This class is responsible for drawing the bonus and keeping its rectangle at the bonus position.
+ */
+public class BonusView {
+    private final Bonus bonus;
+    private final Rectangle rect;
+    private final int size = 30;
+
+    /**
+     * Constructs a new BonusView object for a given bonus.
+     *
+     * @param bonus The Bonus object to be visually represented.
+     */
+    public BonusView(Bonus bonus) {
+        this.bonus = bonus;
+        rect = new Rectangle();
+        rect.setWidth(size);
+        rect.setHeight(size);
+
+        draw();
+    }
+
+    /**
+     * Draws the bonus and applies the image pattern matching its type.
+     * Chocolate bonuses alternate between two images by the column they fall in.
+     */
+    private void draw() {
+        rect.setX(bonus.getX());
+        rect.setY(bonus.getY());
+
+        if (bonus.getType() == Block.BLOCK_CHOCO) {
+            setImagePattern(((int) bonus.getX() / Block.getWidth()) % 2 == 0 ? "bonus1.png" : "bonus2.png");
+        } else if (bonus.getType() == Block.BLOCK_MYSTERY) {
+            setImagePattern("mysteryBonus.jpg");
+        }
+    }
+
+    /**
+     * Applies an image pattern to the bonus. The pattern is shared through the ImageCache.
+     *
+     * @param imageName The name of the image file to be used as the pattern for the bonus.
+     */
+    private void setImagePattern(String imageName) {
+        rect.setFill(ImageCache.getPattern(imageName));
+    }
+
+    /**
+     * Moves the rectangle to the given position of the bonus.
+     *
+     * @param y The y-coordinate of the bonus.
+     */
+    public void updatePosition(double y) {
+        rect.setY(y);
+    }
+
+    /**
+     * Retrieves the rectangle shape representing the bonus.
+     *
+     * @return The Rectangle object representing the bonus.
+     */
+    public Rectangle getRect() {
+        return rect;
+    }
+}
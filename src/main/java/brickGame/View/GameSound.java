@@ -1,5 +1,6 @@
 package brickGame.View;
 
+import javafx.scene.media.AudioClip;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 import java.net.URL;
@@ -10,7 +11,7 @@ import java.net.URL;
  */
 public class GameSound {
     private MediaPlayer bgMediaPlayer;
-    private Media hitSound;
+    private AudioClip hitSound;
     private Media loseSound;
     private Media winSound;
 
@@ -42,12 +43,12 @@ public class GameSound {
 
     /**
      * Initializes the hit sound effect for the game.
-     * Loads the hit sound file to be played when the ball hits a block or paddle.
+     * Loads the hit sound file once into an AudioClip, which can be replayed on every hit without creating a player.
      */
     private void initializeHitSound() {
         URL hitSoundURL = getClass().getResource("/hit_sound.mp3");
         if (hitSoundURL != null) {
-            hitSound = new Media(hitSoundURL.toExternalForm());
+            hitSound = new AudioClip(hitSoundURL.toExternalForm());
         } else {
             System.err.println("Hit sound file not found");
         }
@@ -105,8 +106,7 @@ public class GameSound {
      */
     public void playHitSound() {
         if (hitSound != null) {
-            MediaPlayer hitMediaPlayer = new MediaPlayer(hitSound);
-            hitMediaPlayer.play();
+            hitSound.play();
         }
     }
 
@@ -1,9 +1,10 @@
 package brickGame.View;
 
 import brickGame.Model.Block;
+import brickGame.Model.BoardConfig;
 import brickGame.Model.Bonus;
 import brickGame.Model.GameModel;
-import brickGame.Model.Paddle;
+import brickGame.Model.GameSnapshot;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
 import javafx.animation.Timeline;
@@ -16,23 +17,33 @@ import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
-import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Circle;
 import javafx.scene.shape.Rectangle;
+import javafx.scene.transform.Scale;
 import javafx.stage.Stage;
 import javafx.util.Duration;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Represents the graphical user interface of the brick game.
  * Manages the rendering of game elements like blocks, ball, paddle, and UI components such as buttons and labels.
  */
 public class GameView {
-    private final int sceneWidth = 500;
-    private final int sceneHeight = 700;
+    private final int sceneWidth;
+    private final int sceneHeight;
+    private final int viewportWidth;
+    private final int viewportHeight;
     private Pane root;
     private Pane mainMenuPane;
     private ImageView backgroundImageView;
     private Circle ball;
+    private final List<Circle> extraBalls = new ArrayList<>();
     private Rectangle paddleRect;
     private Label scoreLabel;
     private Label heartLabel;
@@ -40,14 +51,40 @@ public class GameView {
     private Button loadButton;
     private Button newGameButton;
     private  Button pauseButton;
+    private final Map<Block, BlockView> blockViews = new HashMap<>();
+    private final Map<Bonus, BonusView> bonusViews = new HashMap<>();
+    private Map<Block, BlockView> preparedBlockViews = new HashMap<>();
     Stage stage;
 
     /**
-     * Constructs a new GameView object.
+     * Constructs a new GameView object for the scene of the default board, shown at its own size.
      * Initializes the root pane for rendering game elements.
      */
     public GameView() {
+        this(BoardConfig.DEFAULT.getSceneWidth(), BoardConfig.DEFAULT.getSceneHeight(),
+                BoardConfig.DEFAULT.getSceneWidth(), BoardConfig.DEFAULT.getSceneHeight());
+    }
+
+    /**
+     * Constructs a new GameView object showing a game scene in a window of a possibly different size.
+     * The game elements are laid out in scene coordinates and scaled down as a whole to fit the viewport,
+     * so a board larger than the screen is shown entirely.
+     *
+     * @param sceneWidth The width of the game scene.
+     * @param sceneHeight The height of the game scene.
+     * @param viewportWidth The width of the window.
+     * @param viewportHeight The height of the window.
+     */
+    public GameView(int sceneWidth, int sceneHeight, int viewportWidth, int viewportHeight) {
+        this.sceneWidth = sceneWidth;
+        this.sceneHeight = sceneHeight;
+        this.viewportWidth = viewportWidth;
+        this.viewportHeight = viewportHeight;
         root = new Pane();
+        double scale = Math.min((double) viewportWidth / sceneWidth, (double) viewportHeight / sceneHeight);
+        if (scale != 1.0) {
+            root.getTransforms().add(new Scale(scale, scale));
+        }
     }
 
     /**
@@ -89,8 +126,8 @@ public class GameView {
 
         Image backgroundImage = new Image("mainBG.png");
         backgroundImageView = new ImageView(backgroundImage);
-        backgroundImageView.setFitWidth(sceneWidth);
-        backgroundImageView.setFitHeight(sceneHeight);
+        backgroundImageView.setFitWidth(viewportWidth);
+        backgroundImageView.setFitHeight(viewportHeight);
 
         loadButton = new Button("Load Game");
         newGameButton = new Button("Start New Game");
@@ -126,10 +163,117 @@ public class GameView {
             root.getChildren().addAll(paddleRect, ball, scoreLabel, heartLabel, levelLabel, pauseButton);
         }
 
-        for (Block block : gameModel.getBlocks()) {
-            root.getChildren().add(block.getBlockView().getRect());
-            if (block.type == Block.BLOCK_COUNT_BREAKER && block.blockText != null) {
-                root.getChildren().add(block.getBlockView().getBlockText());
+        blockViews.clear();
+        bonusViews.clear();
+        extraBalls.clear();
+        addBlockViews(gameModel.getBlocks());
+    }
+
+    /**
+     * Creates the block views of the next level's board ahead of time, without adding them to the scene.
+     *
+     * @param blocks The blocks of the next level's board.
+     */
+    public void prepareBoard(List<Block> blocks) {
+        preparedBlockViews = new HashMap<>();
+        for (Block block : blocks) {
+            preparedBlockViews.put(block, new BlockView(block));
+        }
+    }
+
+    /**
+     * Replaces the board on screen with a new level's board, keeping the scene, ball, paddle and labels.
+     * Removes the old blocks and falling bonuses, adds the new blocks using the views prepared for them,
+     * and resets the status UI of the previous level.
+     *
+     * @param blocks The blocks of the new level's board.
+     */
+    public void showBoard(List<Block> blocks) {
+        Set<Object> oldNodes = new HashSet<>();
+        for (BlockView blockView : blockViews.values()) {
+            oldNodes.add(blockView.getRect());
+            if (blockView.getBlockText() != null) {
+                oldNodes.add(blockView.getBlockText());
+            }
+        }
+        for (BonusView bonusView : bonusViews.values()) {
+            oldNodes.add(bonusView.getRect());
+        }
+        root.getChildren().removeAll(oldNodes);
+        blockViews.clear();
+        bonusViews.clear();
+
+        addBlockViews(blocks);
+        resetGoldStatusUI();
+        resetFreezeUI();
+        resetGhostUI();
+    }
+
+    /**
+     * Adds the views of the given blocks to the root pane, reusing views prepared by prepareBoard.
+     *
+     * @param blocks The blocks to show.
+     */
+    private void addBlockViews(List<Block> blocks) {
+        for (Block block : blocks) {
+            BlockView blockView = preparedBlockViews.remove(block);
+            if (blockView == null) {
+                blockView = new BlockView(block);
+            }
+            blockViews.put(block, blockView);
+            root.getChildren().add(blockView.getRect());
+            if (blockView.getBlockText() != null) {
+                root.getChildren().add(blockView.getBlockText());
+            }
+        }
+    }
+
+    /**
+     * Adds the view of a block that appeared during play, such as a block of a new row of the endless board.
+     * The position is passed in, as read when the block appeared, since the block may have moved on since.
+     *
+     * @param block The block to show.
+     * @param x The x-coordinate of the block when it appeared.
+     * @param y The y-coordinate of the block when it appeared.
+     * @param row The row of the block when it appeared.
+     */
+    public void addBlockView(Block block, int x, int y, int row) {
+        BlockView blockView = new BlockView(block, x, y, row);
+        blockViews.put(block, blockView);
+        root.getChildren().add(blockView.getRect());
+        if (blockView.getBlockText() != null) {
+            root.getChildren().add(blockView.getBlockText());
+        }
+    }
+
+    /**
+     * Removes the view of a block the model has released, so neither the scene nor the view keeps it.
+     *
+     * @param block The released block.
+     */
+    public void removeBlockView(Block block) {
+        BlockView blockView = blockViews.remove(block);
+        if (blockView == null) {
+            return;
+        }
+        root.getChildren().remove(blockView.getRect());
+        if (blockView.getBlockText() != null) {
+            root.getChildren().remove(blockView.getBlockText());
+        }
+    }
+
+    /**
+     * Moves the block views to the positions of their blocks after the endless board has scrolled.
+     *
+     * @param blocks The blocks in play.
+     * @param xs The x-coordinate of every block, in the order of the blocks.
+     * @param ys The y-coordinate of every block, in the order of the blocks.
+     */
+    public void updateBlockPositions(List<Block> blocks, int[] xs, int[] ys) {
+        for (int i = 0; i < blocks.size(); i++) {
+            BlockView blockView = blockViews.get(blocks.get(i));
+            if (blockView != null) {
+                blockView.updatePosition(xs[i], ys[i]);
             }
         }
     }
@@ -155,7 +299,7 @@ public class GameView {
         if (currentScene != null) {
             currentScene.setRoot(root);
         } else {
-            currentScene = new Scene(root, sceneWidth, sceneHeight);
+            currentScene = new Scene(root, viewportWidth, viewportHeight);
             currentScene.getStylesheets().add("style.css");
             stage.setScene(currentScene);
         }
@@ -167,7 +311,7 @@ public class GameView {
      * @param stage The primary stage of the application where the scene is set.
      */
     public void setSceneToStage(Stage stage) {
-        Scene scene = new Scene(mainMenuPane, sceneWidth, sceneHeight);
+        Scene scene = new Scene(mainMenuPane, viewportWidth, viewportHeight);
         scene.getStylesheets().add("style.css");
         stage.setScene(scene);
         stage.show();
@@ -179,26 +323,64 @@ public class GameView {
      * @param gameModel The game model containing the ball and paddle data.
      */
     public void initBallAndPaddle(GameModel gameModel) {
-        ball = new Circle(gameModel.getGameball().getX(), gameModel.getGameball().getY(), gameModel.getGameball().getRadius(),new ImagePattern(new Image("ball.png")));
+        ball = new Circle(gameModel.getGameball().getX(), gameModel.getGameball().getY(), gameModel.getGameball().getRadius(),ImageCache.getPattern("ball.png"));
         paddleRect = new Rectangle(gameModel.getPaddle().getX(), gameModel.getPaddle().getY(), gameModel.getPaddle().getWidth(), gameModel.getPaddle().getHeight());
-        paddleRect.setFill(new ImagePattern(new Image("block.jpg")));
+        paddleRect.setFill(ImageCache.getPattern("block.jpg"));
         root.getChildren().addAll(ball, paddleRect);
     }
 
     /**
-     * Updates the labels and ball position based on the game model.
+     * Updates the labels, ball, paddle and falling bonuses from a render snapshot.
+     * Positions are interpolated between the snapshot's previous and current step.
      *
-     * @param gameModel The game model containing the updated data.
+     * @param snapshot The snapshot of the game state to draw.
+     * @param alpha The interpolation factor between 0 (previous step) and 1 (current step).
      */
-    public void updateLabelsAndBall(GameModel gameModel) {
-        scoreLabel.setText("Score : " + gameModel.getScore());
-        heartLabel.setText("Heart : " + gameModel.getHeart());
-        levelLabel.setText("Level : " + gameModel.getLevel());
+    public void render(GameSnapshot snapshot, double alpha) {
+        scoreLabel.setText("Score : " + snapshot.getScore());
+        heartLabel.setText("Heart : " + snapshot.getHeart());
+        levelLabel.setText("Level : " + snapshot.getLevel());
+
+        paddleRect.setX(snapshot.getPaddleX(alpha));
+        paddleRect.setY(snapshot.getPaddleY());
+        paddleRect.setWidth(snapshot.getPaddleWidth());
+        ball.setCenterX(snapshot.getBallX(alpha));
+        ball.setCenterY(snapshot.getBallY(alpha));
+        renderExtraBalls(snapshot, alpha);
+
+        for (int i = 0; i < snapshot.getBonusCount(); i++) {
+            BonusView bonusView = bonusViews.get(snapshot.getBonus(i));
+            if (bonusView != null) {
+                bonusView.updatePosition(snapshot.getBonusY(i, alpha));
+            }
+        }
+    }
 
-        paddleRect.setX(gameModel.getPaddle().getX());
-        paddleRect.setY(gameModel.getPaddle().getY());
-        ball.setCenterX(gameModel.getGameball().getX());
-        ball.setCenterY(gameModel.getGameball().getY());
+    /**
+     * Draws the balls added by the multi-ball bonus, reusing their circles and hiding the ones no longer in play.
+     * Extra balls look like the main ball, so gold, freeze and ghost status apply to them as well.
+     *
+     * @param snapshot The snapshot of the game state to draw.
+     * @param alpha The interpolation factor between 0 (previous step) and 1 (current step).
+     */
+    private void renderExtraBalls(GameSnapshot snapshot, double alpha) {
+        int extraCount = Math.max(0, snapshot.getBallCount() - 1);
+        while (extraBalls.size() < extraCount) {
+            Circle extraBall = new Circle(ball.getRadius());
+            extraBalls.add(extraBall);
+            root.getChildren().add(extraBall);
+        }
+        for (int i = 0; i < extraBalls.size(); i++) {
+            Circle extraBall = extraBalls.get(i);
+            if (i < extraCount) {
+                extraBall.setCenterX(snapshot.getBallX(i + 1, alpha));
+                extraBall.setCenterY(snapshot.getBallY(i + 1, alpha));
+                extraBall.setFill(ball.getFill());
+                extraBall.setVisible(ball.isVisible());
+            } else {
+                extraBall.setVisible(false);
+            }
+        }
     }
 
     /**
@@ -207,9 +389,26 @@ public class GameView {
      * @param block The block that has been removed and should no longer be visible.
      */
     public void setNotVisibleAfterBlockRemoval(Block block) {
-        block.getBlockView().getRect().setVisible(false);
-        if (block.type == Block.BLOCK_COUNT_BREAKER && block.blockText != null) {
-            block.getBlockView().getBlockText().setVisible(false);
+        BlockView blockView = blockViews.get(block);
+        if (blockView == null) {
+            return;
+        }
+        blockView.getRect().setVisible(false);
+        if (blockView.getBlockText() != null) {
+            blockView.getBlockText().setVisible(false);
+        }
+    }
+
+    /**
+     * Refreshes the label of a block after it has been hit.
+     *
+     * @param block The block that has been hit.
+     * @param hitsToDestroy The number of hits the block still needs.
+     */
+    public void updateBlockUI(Block block, int hitsToDestroy) {
+        BlockView blockView = blockViews.get(block);
+        if (blockView != null) {
+            blockView.updateBlockText(hitsToDestroy);
         }
     }
 
@@ -219,7 +418,21 @@ public class GameView {
      * @param bonus The bonus object to be added to the UI.
      */
     public void addBonusUI(Bonus bonus){
-        root.getChildren().add(bonus.getBonus());
+        BonusView bonusView = new BonusView(bonus);
+        bonusViews.put(bonus, bonusView);
+        root.getChildren().add(bonusView.getRect());
+    }
+
+    /**
+     * Hides the UI element of a bonus that has been taken.
+     *
+     * @param bonus The bonus that has been taken.
+     */
+    public void removeBonusUI(Bonus bonus) {
+        BonusView bonusView = bonusViews.remove(bonus);
+        if (bonusView != null) {
+            bonusView.getRect().setVisible(false);
+        }
     }
 
     /**
@@ -227,7 +440,7 @@ public class GameView {
      * Alters the appearance of the ball and the game background.
      */
     public void addGoldRoot(){
-        ball.setFill(new ImagePattern(new Image("goldball.jpeg")));
+        ball.setFill(ImageCache.getPattern("goldball.jpeg"));
         root.getStyleClass().remove("goldRoot");
         root.getStyleClass().remove("bgImageRoot");
         root.getStyleClass().add("goldRoot");
@@ -239,8 +452,8 @@ public class GameView {
      * Alters the appearance of the ball and the paddle.
      */
     public void addFreezeRoot(){
-        ball.setFill(new ImagePattern(new Image("iceBall.jpeg")));
-        paddleRect.setFill(new ImagePattern(new Image("lockPaddle.jpg")));
+        ball.setFill(ImageCache.getPattern("iceBall.jpeg"));
+        paddleRect.setFill(ImageCache.getPattern("lockPaddle.jpg"));
         System.out.println("Oh No! Paddle frozen for 3 seconds");
     }
 
@@ -257,7 +470,7 @@ public class GameView {
      * Resets the UI to its normal state from the 'Gold' status.
      */
     public void resetGoldStatusUI() {
-        ball.setFill(new ImagePattern(new Image("ball.png")));
+        ball.setFill(ImageCache.getPattern("ball.png"));
         root.getStyleClass().remove("goldRoot");
         root.getStyleClass().add("bgImageRoot");
     }
@@ -266,8 +479,8 @@ public class GameView {
      * Resets the UI to its normal state from the 'Freeze' status.
      */
     public void resetFreezeUI(){
-        ball.setFill(new ImagePattern(new Image("ball.png")));
-        paddleRect.setFill(new ImagePattern(new Image("block.jpg")));
+        ball.setFill(ImageCache.getPattern("ball.png"));
+        paddleRect.setFill(ImageCache.getPattern("block.jpg"));
     }
 
     /**
@@ -277,18 +490,6 @@ public class GameView {
         ball.setVisible(true);
     }
 
-    /**
-     * Updates the UI of the paddle based on its current state in the game model.
-     *
-     * @param gameModel The game model containing the updated state of the paddle.
-     */
-    public void updatePaddleUI(GameModel gameModel){
-        Paddle paddle = gameModel.getPaddle();
-        paddleRect.setX(paddle.getX());
-        paddleRect.setY(paddle.getY());
-        paddleRect.setWidth(paddle.getWidth());
-    }
-
     /**
      * Changes the pause button's UI to indicate that the game can be resumed.
      */
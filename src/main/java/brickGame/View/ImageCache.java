@@ -0,0 +1,36 @@
+package brickGame.View;
+
+import javafx.scene.image.Image;
+import javafx.scene.paint.ImagePattern;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Caches the image patterns used to fill the game's shapes, so every image file is loaded only once
+ * and stays loaded across levels. Must only be used on the JavaFX Application Thread.
+ */
+final class ImageCache {
+    private static final Map<String, ImagePattern> patterns = new HashMap<>();
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private ImageCache() {
+    }
+
+    /**
+     * Retrieves the image pattern for an image file, loading the image on first use.
+     *
+     * @param imageName The name of the image file.
+     * @return The shared ImagePattern of the image.
+     */
+    static ImagePattern getPattern(String imageName) {
+        ImagePattern pattern = patterns.get(imageName);
+        if (pattern == null) {
+            pattern = new ImagePattern(new Image(imageName));
+            patterns.put(imageName, pattern);
+        }
+        return pattern;
+    }
+}
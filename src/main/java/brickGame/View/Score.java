@@ -94,8 +94,8 @@ public class Score {
      */
     public void showGameOver(Pane root, GameRestartAction restartAction, GameModel gameModel) {
         Rectangle background = new Rectangle();
-        background.setWidth(500);
-        background.setHeight(700);
+        background.setWidth(gameModel.getSceneWidth());
+        background.setHeight(gameModel.getSceneHeight());
         Image backgroundImage = new Image("gameOver.png");
         background.setFill(new ImagePattern(backgroundImage));
         background.setTranslateX(0);
@@ -125,8 +125,8 @@ public class Score {
      */
     public void showWin(Pane root, GameRestartAction restartAction, GameModel gameModel) {
         Rectangle background = new Rectangle();
-        background.setWidth(500);
-        background.setHeight(700);
+        background.setWidth(gameModel.getSceneWidth());
+        background.setHeight(gameModel.getSceneHeight());
         Image backgroundImage = new Image("win.png");
         background.setFill(new ImagePattern(backgroundImage));
         background.setTranslateX(0);
@@ -2,6 +2,8 @@ module brickGame {
     requires javafx.fxml;
     requires javafx.controls;
     requires java.logging;
+    requires java.management;
+    requires static jdk.incubator.vector;
     requires javafx.media;
 
     opens brickGame to javafx.fxml;
@@ -0,0 +1,132 @@
+package brickGame.Controller;
+
+import brickGame.Model.Bonus;
+import brickGame.Model.GameListener;
+import brickGame.Model.GameModel;
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Checks that the steps of a game allocate no heap memory once the game is warmed up,
+ * measured with the allocation counter of the test thread around every step.
+ * Only the steps that start a level or spawn a bonus are left out, since those build a board or a Bonus by design;
+ * every other step is counted, including the ones that add balls or lose a heart.
+ */
+public class AllocationCheckTest {
+    private static final long SEED = 12345L;
+    private static final long TICKS = 100_000L;
+    private static final int MAX_GAMES = 12;
+
+    /**
+     * Plays the same seeded game until one of them runs without an allocating step.
+     * A seeded game takes the same path every time, so an allocation the game makes happens in every game
+     * and fails the check. The JVM's own allocations happen once: when HotSpot queues a method for C2,
+     * it interns the string literals of the method's class, such as those of BitSet or Math,
+     * on the thread that called it, and those bytes land in whichever step triggers the compilation.
+     */
+    @Test
+    public void warmedUpStepsDoNotAllocate() {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "Thread allocation counting is not supported by this JVM");
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        GameAllocations game = measureGame(threads);
+        int games = 1;
+        while (game.allocatingTicks > 0 && games < MAX_GAMES) {
+            game = measureGame(threads);
+            games++;
+        }
+
+        GameAllocations result = game;
+        int gamesPlayed = games;
+        assertEquals(0, result.allocatingTicks, () -> String.format(
+                "%d steps allocated %d bytes in the last of %d games with seed %d",
+                result.allocatingTicks, result.allocatedBytes, gamesPlayed, SEED));
+        assertEquals(result.levelTicks + result.bonusTicks, result.skippedTicks,
+                "only steps that start a level or spawn a bonus are left out");
+        assertTrue(result.skippedTicks * 1000 < result.measuredTicks,
+                () -> result.skippedTicks + " of " + result.measuredTicks + " steps were left out");
+        assertTrue(result.ballsAddedTicks > 0, "the game counts steps that add balls");
+    }
+
+    /**
+     * Plays a game and measures the heap allocated by every step.
+     *
+     * @param threads The thread bean that counts allocated bytes.
+     * @return The measured steps and allocations.
+     */
+    private static GameAllocations measureGame(ThreadMXBean threads) {
+        GameModel gameModel = new GameModel(SEED);
+        GameEvents events = new GameEvents();
+        gameModel.setListener(events);
+        HeadlessSimulation simulation = new HeadlessSimulation(gameModel);
+        simulation.start();
+
+        GameAllocations result = new GameAllocations();
+        while (result.measuredTicks < TICKS && !simulation.isFinished()) {
+            int level = gameModel.getLevel();
+            events.isBonusSpawned = false;
+            events.isBallsAdded = false;
+            long before = threads.getCurrentThreadAllocatedBytes();
+            simulation.step();
+            long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+            result.measuredTicks++;
+            if (gameModel.getLevel() != level) {
+                result.levelTicks++;
+                result.skippedTicks++;
+                continue;
+            }
+            if (events.isBonusSpawned) {
+                result.bonusTicks++;
+                result.skippedTicks++;
+                continue;
+            }
+            if (events.isBallsAdded) {
+                result.ballsAddedTicks++;
+            }
+            if (allocated > 0) {
+                result.allocatingTicks++;
+                result.allocatedBytes += allocated;
+            }
+        }
+        simulation.getEngine().stop();
+        return result;
+    }
+
+    /**
+     * Counts of one measured game.
+     */
+    private static class GameAllocations {
+        private long measuredTicks = 0;
+        private long skippedTicks = 0;
+        private long levelTicks = 0;
+        private long bonusTicks = 0;
+        private long ballsAddedTicks = 0;
+        private long allocatingTicks = 0;
+        private long allocatedBytes = 0;
+    }
+
+    /**
+     * Game listener that flags the events of a step which the check looks at.
+     */
+    private static class GameEvents implements GameListener {
+        private boolean isBonusSpawned = false;
+        private boolean isBallsAdded = false;
+
+        @Override
+        public void onBonusSpawned(Bonus bonus) {
+            isBonusSpawned = true;
+        }
+
+        @Override
+        public void onBallsAdded(int ballCount) {
+            isBallsAdded = true;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package brickGame.Controller;
+
+import brickGame.Model.BlockStore;
+import brickGame.Model.BoardConfig;
+import brickGame.Model.GameModel;
+import brickGame.Model.LoadSave;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Measures how the hot paths of the model scale with the size of the board, without the JavaFX toolkit.
+ * For boards from the default size up to tens of thousands of blocks, it times building the board,
+ * simulating steps with many balls in play, the level completion check, saving the game and destroying every block.
+ * Costs per block that stay flat show linear work, and costs per step or per check that stay flat show work
+ * that does not grow with the board.
+ */
+public class BoardBenchmark {
+    private static final int[][] BOARD_SIZES = {{4, 19}, {50, 50}, {100, 100}, {200, 200}, {300, 300}};
+    private static final long SEED = 42L;
+    private static final int BALL_COUNT = 100;
+    private static final int COMPLETION_CHECKS = 1_000_000;
+
+    private final BoardConfig config;
+
+    /**
+     * Constructs a benchmark for boards of one size.
+     *
+     * @param config The dimensions of the boards.
+     */
+    public BoardBenchmark(BoardConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Times building a board.
+     *
+     * @param gameModel The game model to build the board of.
+     * @return The nanoseconds the build took.
+     */
+    private static long timeBuild(GameModel gameModel) {
+        long start = System.nanoTime();
+        gameModel.initBoard();
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Times simulating steps with a fixed number of balls in play.
+     *
+     * @param ticks The number of steps to simulate.
+     * @return The nanoseconds per step.
+     */
+    private double timeSteps(long ticks) {
+        HeadlessSimulation simulation = new HeadlessSimulation(new GameModel(SEED, config));
+        simulation.setStressBallCount(BALL_COUNT);
+        simulation.run(ticks / 2);
+        long start = System.nanoTime();
+        long ticksRun = simulation.run(ticks);
+        return (double) (System.nanoTime() - start) / Math.max(1, ticksRun);
+    }
+
+    /**
+     * Times the level completion check.
+     *
+     * @param gameModel The game model with a board.
+     * @return The nanoseconds per check.
+     */
+    private static double timeCompletionCheck(GameModel gameModel) {
+        int completed = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < COMPLETION_CHECKS; i++) {
+            if (gameModel.checkLevelCompletion()) {
+                completed++;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        return (double) (elapsed + completed) / COMPLETION_CHECKS;
+    }
+
+    /**
+     * Times saving a game to a temporary file instead of the player's save file.
+     *
+     * @param gameModel The game model to save.
+     * @return The nanoseconds the save took.
+     * @throws IOException If the temporary file cannot be created.
+     */
+    private static long timeSave(GameModel gameModel) throws IOException {
+        File file = File.createTempFile("board-benchmark", ".mdds");
+        String savePath = LoadSave.savePath;
+        String savePathDir = LoadSave.savePathDir;
+        LoadSave.savePath = file.getPath();
+        LoadSave.savePathDir = file.getParent();
+        try {
+            long start = System.nanoTime();
+            gameModel.saveGame();
+            return System.nanoTime() - start;
+        } finally {
+            LoadSave.savePath = savePath;
+            LoadSave.savePathDir = savePathDir;
+            file.delete();
+        }
+    }
+
+    /**
+     * Times destroying every block on the board, one at a time as collisions do.
+     *
+     * @param blockStore The block store of the board.
+     * @return The nanoseconds the destruction took.
+     */
+    private static long timeRemoval(BlockStore blockStore) {
+        long start = System.nanoTime();
+        for (int i = blockStore.nextAlive(0); i >= 0; i = blockStore.nextAlive(i + 1)) {
+            blockStore.destroy(i);
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Runs every measurement for the board size and prints one line of results.
+     *
+     * @param ticks The number of steps to simulate.
+     * @throws IOException If the save cannot be timed.
+     */
+    public void run(long ticks) throws IOException {
+        GameModel gameModel = new GameModel(SEED, config);
+        long buildNanos = timeBuild(gameModel);
+        int blocks = gameModel.getBlockStore().getAliveCount();
+        double completionNanos = timeCompletionCheck(gameModel);
+        long saveNanos = timeSave(gameModel);
+        long removalNanos = timeRemoval(gameModel.getBlockStore());
+        double stepNanos = timeSteps(ticks);
+
+        System.out.printf("%4dx%-4d %7d blocks | build %6.0f ns/block | save %6.0f ns/block | destroy %5.0f ns/block"
+                        + " | completion %5.1f ns | step with %d balls %7.0f ns%n",
+                config.getColumns(), config.getRows(), blocks, (double) buildNanos / blocks, (double) saveNanos / blocks,
+                (double) removalNanos / blocks, completionNanos, BALL_COUNT, stepNanos);
+    }
+
+    /**
+     * Runs the benchmark from the command line, for boards of growing size with the default block size.
+     *
+     * @param args Optionally the number of steps to simulate per board, 20000 by default.
+     * @throws IOException If the save cannot be timed.
+     */
+    public static void main(String[] args) throws IOException {
+        long ticks = args.length > 0 ? Long.parseLong(args[0]) : 20_000L;
+        BoardConfig defaults = BoardConfig.DEFAULT;
+        for (int[] size : BOARD_SIZES) {
+            new BoardBenchmark(BoardConfig.forBoard(size[0], size[1], defaults.getBlockWidth(), defaults.getBlockHeight())).run(ticks);
+        }
+    }
+}
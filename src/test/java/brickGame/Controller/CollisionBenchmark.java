@@ -0,0 +1,171 @@
+package brickGame.Controller;
+
+import brickGame.Model.Block;
+import brickGame.Model.BlockStore;
+import brickGame.Model.Contact;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares the ways of finding the blocks a moving ball hits on large boards, without the JavaFX toolkit.
+ * Every method sweeps the same random balls against the same board and must find the same hits:
+ * the Block.checkHitToBlock loop over every block object, the block grid, and the scalar and vector overlap kernels
+ * scanning the block store's primitive arrays. The vector kernel only runs when the JVM is started
+ * with --add-modules jdk.incubator.vector.
+ */
+public class CollisionBenchmark {
+    private static final int COLUMNS = 50;
+    private static final int BALL_RADIUS = 10;
+    private static final double MAX_SPEED = 8.0;
+    private static final int WARM_UP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private final BlockStore store = new BlockStore();
+    private final List<Block> blocks = new ArrayList<>();
+    private final Contact contact = new Contact();
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] deltaXs;
+    private final double[] deltaYs;
+
+    /**
+     * Constructs a benchmark with a board of blocks in rows of fifty and a set of random balls moving over it.
+     *
+     * @param blockCount The number of blocks on the board.
+     * @param queryCount The number of balls swept against the board per round.
+     */
+    public CollisionBenchmark(int blockCount, int queryCount) {
+        for (int i = 0; i < blockCount; i++) {
+            store.add(i / COLUMNS, i % COLUMNS, Block.BLOCK_NORMAL, 0);
+        }
+        for (int i = 0; i < blockCount; i++) {
+            blocks.add(store.getBlock(i));
+        }
+
+        int rows = (blockCount + COLUMNS - 1) / COLUMNS;
+        double width = COLUMNS * Block.getWidth() + 2.0 * Block.getPaddingH();
+        double height = rows * Block.getHeight() + 2.0 * Block.getPaddingTop();
+        Random random = new Random(42);
+        xs = new double[queryCount];
+        ys = new double[queryCount];
+        deltaXs = new double[queryCount];
+        deltaYs = new double[queryCount];
+        for (int i = 0; i < queryCount; i++) {
+            xs[i] = random.nextDouble() * width;
+            ys[i] = random.nextDouble() * height;
+            deltaXs[i] = (random.nextDouble() * 2 - 1) * MAX_SPEED;
+            deltaYs[i] = (random.nextDouble() * 2 - 1) * MAX_SPEED;
+        }
+    }
+
+    /**
+     * Sweeps every ball against every block object with Block.checkHitToBlock.
+     *
+     * @return The number of block hits found.
+     */
+    public long runBlockLoop() {
+        long hits = 0;
+        for (int q = 0; q < xs.length; q++) {
+            for (int i = 0; i < blocks.size(); i++) {
+                if (blocks.get(i).checkHitToBlock(xs[q], ys[q], deltaXs[q], deltaYs[q], BALL_RADIUS, contact) != Block.NO_HIT) {
+                    hits++;
+                }
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Sweeps every ball against the candidate blocks the block store finds around it,
+     * with the store's current overlap kernel or its block grid.
+     *
+     * @return The number of block hits found.
+     */
+    public long runStoreQuery() {
+        long hits = 0;
+        for (int q = 0; q < xs.length; q++) {
+            double x = xs[q];
+            double y = ys[q];
+            double reach = BALL_RADIUS + 2 * (Math.abs(deltaXs[q]) + Math.abs(deltaYs[q])) + 1;
+            int candidateCount = store.queryCandidates(x - reach, y - reach, x + reach, y + reach);
+            for (int k = 0; k < candidateCount; k++) {
+                if (store.sweep(store.getCandidate(k), x, y, deltaXs[q], deltaYs[q], BALL_RADIUS, contact) != Block.NO_HIT) {
+                    hits++;
+                }
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Retrieves the block store of the board, to switch its overlap kernel between runs.
+     *
+     * @return The BlockStore of the board.
+     */
+    public BlockStore getStore() {
+        return store;
+    }
+
+    /**
+     * Runs the warm-up and measured rounds of a method and reports its time per ball and the hits it found.
+     *
+     * @param name The name of the method.
+     * @param method The method, returning the number of hits of one round.
+     * @return The number of hits found per round.
+     */
+    private long measure(String name, Round method) {
+        long hits = 0;
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            hits = method.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            hits = method.run();
+        }
+        double nanosPerQuery = (double) (System.nanoTime() - start) / MEASURED_ROUNDS / xs.length;
+        System.out.printf("%-22s %10.1f ns per ball, %d hits%n", name, nanosPerQuery, hits);
+        return hits;
+    }
+
+    /**
+     * Runs the benchmark from the command line and exits with status 1 if the methods disagree on the hits.
+     *
+     * @param args Optionally the number of blocks, 4000 by default, and the number of balls per round, 20000 by default.
+     */
+    public static void main(String[] args) {
+        int blockCount = args.length > 0 ? Integer.parseInt(args[0]) : 4000;
+        int queryCount = args.length > 1 ? Integer.parseInt(args[1]) : 20_000;
+        CollisionBenchmark benchmark = new CollisionBenchmark(blockCount, queryCount);
+        BlockStore store = benchmark.getStore();
+        System.out.printf("%d blocks, %d balls per round%n", blockCount, queryCount);
+
+        long expected = benchmark.measure("checkHitToBlock loop", benchmark::runBlockLoop);
+        boolean isConsistent = true;
+
+        store.setOverlapKernel(null);
+        isConsistent &= benchmark.measure("block grid", benchmark::runStoreQuery) == expected;
+
+        store.setOverlapKernel(BlockStore.createOverlapKernel(false));
+        isConsistent &= benchmark.measure("kernel " + store.getOverlapKernel().getName(), benchmark::runStoreQuery) == expected;
+
+        BlockStore.OverlapKernel vectorKernel = BlockStore.createOverlapKernel(true);
+        if (!vectorKernel.getName().equals(store.getOverlapKernel().getName())) {
+            store.setOverlapKernel(vectorKernel);
+            isConsistent &= benchmark.measure("kernel " + vectorKernel.getName(), benchmark::runStoreQuery) == expected;
+        }
+
+        if (!isConsistent) {
+            System.out.println("The methods found different hits");
+            System.exit(1);
+        }
+    }
+
+    /**
+     * A single round of a benchmarked method.
+     */
+    private interface Round {
+        long run();
+    }
+}
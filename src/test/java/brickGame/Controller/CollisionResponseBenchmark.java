@@ -0,0 +1,127 @@
+package brickGame.Controller;
+
+import brickGame.Model.BallStore;
+import brickGame.Model.Physics;
+
+import java.util.Random;
+
+/**
+ * Validates the block collision response table and compares it with the branching response logic, without the JavaFX toolkit.
+ * The table is first checked against the branches for every block face and ball direction.
+ * Both responses are then timed on the same sequence of contacts, once in a repeating order the branch predictor learns
+ * and once in a random order it cannot, which is where replacing the branches with a table lookup pays off.
+ */
+public class CollisionResponseBenchmark {
+    private static final int HIT_CODE_COUNT = 8;
+    private static final int BALL_COUNT = 64;
+    private static final int WARM_UP_ROUNDS = 10;
+    private static final int MEASURED_ROUNDS = 20;
+
+    private final BallStore balls = new BallStore();
+    private final int[] ballIndexes;
+    private final int[] hitCodes;
+
+    /**
+     * Constructs a benchmark with a sequence of contacts between a set of balls and block faces.
+     *
+     * @param contactCount The number of contacts per round.
+     * @param isRandom True to hit the faces in a random order, false to cycle through them.
+     */
+    public CollisionResponseBenchmark(int contactCount, boolean isRandom) {
+        Random random = new Random(42);
+        for (int i = 0; i < BALL_COUNT; i++) {
+            balls.add(0, 0, 2.0, 1.0, random.nextBoolean(), random.nextBoolean());
+        }
+        ballIndexes = new int[contactCount];
+        hitCodes = new int[contactCount];
+        for (int i = 0; i < contactCount; i++) {
+            ballIndexes[i] = isRandom ? random.nextInt(BALL_COUNT) : i % BALL_COUNT;
+            hitCodes[i] = isRandom ? random.nextInt(HIT_CODE_COUNT) : i % HIT_CODE_COUNT;
+        }
+    }
+
+    /**
+     * Applies every contact of the sequence with the response table.
+     *
+     * @return A checksum of the resulting ball directions.
+     */
+    public long runTable() {
+        for (int i = 0; i < hitCodes.length; i++) {
+            Physics.respondByTable(balls, ballIndexes[i], hitCodes[i]);
+        }
+        return checksum();
+    }
+
+    /**
+     * Applies every contact of the sequence with the branching response logic.
+     *
+     * @return A checksum of the resulting ball directions.
+     */
+    public long runBranches() {
+        for (int i = 0; i < hitCodes.length; i++) {
+            Physics.respondByBranches(balls, ballIndexes[i], hitCodes[i]);
+        }
+        return checksum();
+    }
+
+    /**
+     * Sums up the directions of the balls, so the responses cannot be optimized away.
+     *
+     * @return The number of balls moving down plus twice the number moving right.
+     */
+    private long checksum() {
+        long checksum = 0;
+        for (int i = 0; i < balls.size(); i++) {
+            checksum += (balls.isGoingDown(i) ? 1 : 0) + (balls.isGoingRight(i) ? 2 : 0);
+        }
+        return checksum;
+    }
+
+    /**
+     * Runs the warm-up and measured rounds of a response and reports its time per contact.
+     *
+     * @param name The name of the response and the contact order.
+     * @param method The response, returning the checksum of one round.
+     */
+    private void measure(String name, Round method) {
+        long checksum = 0;
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            checksum += method.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            checksum += method.run();
+        }
+        double nanosPerContact = (double) (System.nanoTime() - start) / MEASURED_ROUNDS / hitCodes.length;
+        System.out.printf("%-26s %6.2f ns per contact (checksum %d)%n", name, nanosPerContact, checksum);
+    }
+
+    /**
+     * Runs the validation and the benchmark from the command line, and exits with status 1 if the table is wrong.
+     *
+     * @param args Optionally the number of contacts per round, one million by default.
+     */
+    public static void main(String[] args) {
+        int mismatches = Physics.countResponseTableMismatches();
+        if (mismatches > 0) {
+            System.out.printf("The response table differs from the branches in %d cases%n", mismatches);
+            System.exit(1);
+        }
+        System.out.println("The response table matches the branches for every face and direction");
+
+        int contactCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        CollisionResponseBenchmark cycling = new CollisionResponseBenchmark(contactCount, false);
+        CollisionResponseBenchmark random = new CollisionResponseBenchmark(contactCount, true);
+        cycling.measure("branches, cycling faces", cycling::runBranches);
+        cycling.measure("table, cycling faces", cycling::runTable);
+        random.measure("branches, random faces", random::runBranches);
+        random.measure("table, random faces", random::runTable);
+    }
+
+    /**
+     * A single round of a benchmarked response.
+     */
+    private interface Round {
+        long run();
+    }
+}
@@ -0,0 +1,55 @@
+package brickGame.Model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the resolution of ball and block contacts in time-of-impact order within a step.
+ */
+public class BlockCollisionTest {
+    private static final double TOLERANCE = 1e-9;
+
+    /**
+     * A ball moving up and right into the inner corner between two blocks hits the bottom of the upper block first,
+     * then, swept on from that contact point, the left face of the lower block, and ends the step
+     * where the rest of its movement takes it after both bounces.
+     */
+    @Test
+    public void cornerHitResolvesBothContactsFromTheirContactPoints() {
+        GameModel gameModel = new GameModel(1L, BoardConfig.DEFAULT);
+        gameModel.clearBlocks();
+        gameModel.addBlock(0, 0, Block.BLOCK_NORMAL, 0);
+        gameModel.addBlock(1, 1, Block.BLOCK_NORMAL, 0);
+        gameModel.setTime(10_000);
+        List<Integer> hits = new ArrayList<>();
+        gameModel.setListener(new GameListener() {
+            @Override
+            public void onBlockHit(BlockType blockType, int index) {
+                hits.add(index);
+            }
+        });
+
+        BallStore balls = gameModel.getBalls();
+        balls.clear();
+        balls.add(130, 104, 20, 15, false, true);
+
+        double remaining = gameModel.updateBlockCollisions(0, 1.0);
+
+        assertEquals(List.of(0, 1), hits);
+        assertTrue(balls.isGoingDown(0), "the bottom face of the upper block bounces the ball down");
+        assertFalse(balls.isGoingRight(0), "the left face of the lower block bounces the ball left");
+        assertEquals(140.0, balls.getX(0), TOLERANCE);
+        assertEquals(100.0 + 7.0 / 30.0, balls.getY(0), TOLERANCE);
+        assertEquals(0.5, remaining, TOLERANCE);
+
+        new Ball(balls, 0).updatePosition(remaining);
+        assertEquals(130.0, balls.getX(0), TOLERANCE);
+        assertEquals(100.0 + 22.0 / 30.0, balls.getY(0), TOLERANCE);
+    }
+}
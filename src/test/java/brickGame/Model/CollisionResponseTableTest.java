@@ -0,0 +1,20 @@
+package brickGame.Model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the table that block collisions look up the ball's response in.
+ */
+public class CollisionResponseTableTest {
+
+    /**
+     * The table gives the same ball state as the branching response logic it replaced,
+     * for every block face, every direction of the ball and a few vertical speeds.
+     */
+    @Test
+    public void tableMatchesBranchingResponse() {
+        assertEquals(0, Physics.countResponseTableMismatches());
+    }
+}
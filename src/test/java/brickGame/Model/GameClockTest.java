@@ -0,0 +1,64 @@
+package brickGame.Model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the game clock against a nanosecond source the test moves by hand.
+ */
+public class GameClockTest {
+    private static final long MILLI = 1_000_000L;
+
+    private long sourceNanos = 5_000 * MILLI;
+
+    /**
+     * The clock starts paused, follows its source once resumed, and keeps its time while paused again.
+     */
+    @Test
+    public void followsSourceOnlyWhileRunning() {
+        GameClock clock = new GameClock(() -> sourceNanos);
+        assertTrue(clock.isPaused());
+        sourceNanos += 100 * MILLI;
+        assertEquals(0, clock.millis());
+
+        clock.resume();
+        sourceNanos += 250 * MILLI;
+        assertEquals(250, clock.millis());
+
+        clock.pause();
+        sourceNanos += 1_000 * MILLI;
+        assertEquals(250, clock.millis());
+
+        clock.resume();
+        sourceNanos += 50 * MILLI;
+        assertEquals(300, clock.millis());
+    }
+
+    /**
+     * A scale applies to the time that passes after it is set, not to the time already counted.
+     */
+    @Test
+    public void scaleAppliesFromWhenItIsSet() {
+        GameClock clock = new GameClock(() -> sourceNanos);
+        clock.resume();
+        sourceNanos += 100 * MILLI;
+        clock.setScale(4.0);
+        sourceNanos += 100 * MILLI;
+        assertEquals(500, clock.millis());
+    }
+
+    /**
+     * A paused clock moves only by fixed amounts, as the game clock an engine advances once per step,
+     * and a time set on it, as from a saved game, is kept.
+     */
+    @Test
+    public void pausedClockMovesOnlyByAdvance() {
+        GameClock clock = new GameClock(() -> sourceNanos);
+        clock.setMillis(1_200);
+        sourceNanos += 1_000 * MILLI;
+        clock.advance(16 * MILLI);
+        assertEquals(1_216, clock.millis());
+    }
+}
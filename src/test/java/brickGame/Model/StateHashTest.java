@@ -0,0 +1,44 @@
+package brickGame.Model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Tests the fingerprint that determinism checks compare game states by.
+ */
+public class StateHashTest {
+
+    /**
+     * Moving the blocks down a row, as the endless board does, changes the hash even though every block keeps
+     * its type and hits, and the same move on a game with the same seed gives the same hash again.
+     */
+    @Test
+    public void blockRowsAreHashed() {
+        GameModel gameModel = createBoard();
+        long before = gameModel.computeStateHash();
+        gameModel.getBlockStore().shiftRowsDown(10, new ArrayList<>());
+        long shifted = gameModel.computeStateHash();
+        assertNotEquals(before, shifted);
+
+        GameModel sameGame = createBoard();
+        sameGame.getBlockStore().shiftRowsDown(10, new ArrayList<>());
+        assertEquals(shifted, sameGame.computeStateHash());
+    }
+
+    /**
+     * Creates a game with two blocks on an otherwise empty board.
+     *
+     * @return The GameModel with the board.
+     */
+    private static GameModel createBoard() {
+        GameModel gameModel = new GameModel(1L, BoardConfig.DEFAULT);
+        gameModel.clearBlocks();
+        gameModel.addBlock(0, 0, Block.BLOCK_NORMAL, 0);
+        gameModel.addBlock(1, 2, Block.BLOCK_NORMAL, 0);
+        return gameModel;
+    }
+}